@@ -1,14 +1,18 @@
 package com.example.unternehmenshandbuch.config;
 
 
-import com.example.unternehmenshandbuch.service.AppUserDetailsServiceImpl;
 import com.example.unternehmenshandbuch.service.JwtService;
+import com.example.unternehmenshandbuch.service.TokenVersionService;
+import com.example.unternehmenshandbuch.service.UserDetailsCache;
+import com.example.unternehmenshandbuch.service.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -22,11 +26,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
 
-    private final AppUserDetailsServiceImpl appUserDetailsServiceImpl;
+    private final UserDetailsCache userDetailsCache;
 
-    public JwtAuthenticationFilter(JwtService jwtService, AppUserDetailsServiceImpl appUserDetailsServiceImpl) {
+    private final TokenVersionService tokenVersionService;
+
+    private final boolean stateless;
+
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsCache userDetailsCache, TokenVersionService tokenVersionService,
+                                   @Value("${handbook.auth.stateless:false}") boolean stateless) {
         this.jwtService = jwtService;
-        this.appUserDetailsServiceImpl = appUserDetailsServiceImpl;
+        this.userDetailsCache = userDetailsCache;
+        this.tokenVersionService = tokenVersionService;
+        this.stateless = stateless;
     }
 
     @Override
@@ -37,20 +48,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         String jwt = authHeader.substring(7);
-        String username = jwtService.extractUsername(jwt);
-
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = appUserDetailsServiceImpl.loadUserByUsername(username);
-            if (userDetails != null && jwtService.isTokenValid(jwt)) {
-                UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                        username,
-                        userDetails.getPassword(),
-                        userDetails.getAuthorities()
-                );
+        VerifiedToken token = jwtService.verify(jwt);
+        String username = token.username();
+
+        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null
+                && tokenVersionService.isCurrent(username, token.tokenVersion())) {
+            UsernamePasswordAuthenticationToken authenticationToken = stateless ? fromClaims(token) : fromUserDetails(username);
+            if (authenticationToken != null) {
                 authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
             }
         }
         filterChain.doFilter(request, response);
     }
+
+    private UsernamePasswordAuthenticationToken fromClaims(VerifiedToken token) {
+        return new UsernamePasswordAuthenticationToken(
+                token.username(),
+                null,
+                token.roles().stream().map(SimpleGrantedAuthority::new).toList()
+        );
+    }
+
+    private UsernamePasswordAuthenticationToken fromUserDetails(String username) {
+        UserDetails userDetails = userDetailsCache.loadUserByUsername(username);
+        if (userDetails == null) {
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(
+                username,
+                userDetails.getPassword(),
+                userDetails.getAuthorities()
+        );
+    }
 }
@@ -0,0 +1,42 @@
+package com.example.unternehmenshandbuch.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "handbook.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private long maxClients = 100_000;
+
+    private Duration idleExpiry = Duration.ofMinutes(10);
+
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Data
+    public static class Group {
+
+        private List<String> paths = new ArrayList<>();
+
+        private List<String> methods = new ArrayList<>();
+
+        private double replenishRate = 10;
+
+        private long burstCapacity = 20;
+
+        private ClientKey clientKey = ClientKey.PRINCIPAL;
+    }
+
+    public enum ClientKey {
+        IP,
+        PRINCIPAL
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.unternehmenshandbuch.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Component
+public class RateLimitingFilter extends OncePerRequestFilter {
+
+    static final String CACHE_NAME = "rateLimitBuckets";
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final boolean enabled;
+
+    private final List<EndpointGroup> ipGroups = new ArrayList<>();
+
+    private final List<EndpointGroup> principalGroups = new ArrayList<>();
+
+    private final OncePerRequestFilter ipFilter = new IpRateLimitingFilter();
+
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    @Autowired
+    public RateLimitingFilter(RateLimitProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(properties, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    RateLimitingFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        properties.getGroups().forEach((name, group) -> (group.getClientKey() == RateLimitProperties.ClientKey.IP ? ipGroups : principalGroups)
+                .add(new EndpointGroup(name, group, meterRegistry)));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxClients())
+                .expireAfterAccess(properties.getIdleExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, CACHE_NAME);
+    }
+
+    public OncePerRequestFilter ipFilter() {
+        return ipFilter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        limit(principalGroups, client(request), request, response, filterChain);
+    }
+
+    private void limit(List<EndpointGroup> groups, String client, HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        EndpointGroup group = enabled ? match(groups, request) : null;
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(new BucketKey(group.name(), client),
+                key -> new TokenBucket(group.config().getReplenishRate(), group.config().getBurstCapacity(), now));
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos > 0) {
+            group.rejected().increment();
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1))));
+            response.getWriter().write("Too many requests");
+            return;
+        }
+        group.admitted().increment();
+        filterChain.doFilter(request, response);
+    }
+
+    private static EndpointGroup match(List<EndpointGroup> groups, HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (EndpointGroup group : groups) {
+            if (group.matches(request.getMethod(), path)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private static String client(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return ip(request);
+    }
+
+    private static String ip(HttpServletRequest request) {
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private class IpRateLimitingFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+            limit(ipGroups, ip(request), request, response, filterChain);
+        }
+    }
+
+    private record BucketKey(String group, String client) {
+    }
+
+    private record EndpointGroup(String name, RateLimitProperties.Group config, Set<String> methods, Counter admitted, Counter rejected) {
+
+        EndpointGroup(String name, RateLimitProperties.Group config, MeterRegistry meterRegistry) {
+            this(name, config,
+                    config.getMethods().stream().map(method -> method.toUpperCase(Locale.ROOT)).collect(Collectors.toSet()),
+                    counter(meterRegistry, name, "admitted"),
+                    counter(meterRegistry, name, "rejected"));
+        }
+
+        boolean matches(String method, String path) {
+            return (methods.isEmpty() || methods.contains(method))
+                    && config.getPaths().stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String group, String outcome) {
+            return Counter.builder("rate.limit.requests")
+                    .tag("group", group)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
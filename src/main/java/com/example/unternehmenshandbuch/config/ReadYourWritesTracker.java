@@ -0,0 +1,100 @@
+package com.example.unternehmenshandbuch.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReadYourWritesTracker {
+
+    static final String COOKIE_NAME = "handbook_primary_until";
+
+    private final Map<String, Instant> primaryUntil = new ConcurrentHashMap<>();
+
+    private final Duration window;
+
+    private final Clock clock;
+
+    public ReadYourWritesTracker(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    public void recordWrite() {
+        Instant until = clock.instant().plus(window);
+        String username = currentUsername();
+        if (username != null) {
+            primaryUntil.put(username, until);
+        }
+        ServletRequestAttributes attributes = currentAttributes();
+        HttpServletResponse response = attributes == null ? null : attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(until.toEpochMilli()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            response.addCookie(cookie);
+        }
+    }
+
+    public boolean isWithinWindow() {
+        if (isWithinCookieWindow()) {
+            return true;
+        }
+        String username = currentUsername();
+        if (username == null) {
+            return false;
+        }
+        Instant until = primaryUntil.get(username);
+        if (until == null) {
+            return false;
+        }
+        if (until.isAfter(clock.instant())) {
+            return true;
+        }
+        primaryUntil.remove(username, until);
+        return false;
+    }
+
+    public void purgeExpired() {
+        Instant now = clock.instant();
+        primaryUntil.values().removeIf(until -> !until.isAfter(now));
+    }
+
+    private boolean isWithinCookieWindow() {
+        ServletRequestAttributes attributes = currentAttributes();
+        Cookie[] cookies = attributes == null ? null : attributes.getRequest().getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        Instant now = clock.instant();
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    Instant until = Instant.ofEpochMilli(Long.parseLong(cookie.getValue()));
+                    return until.isAfter(now) && !until.isAfter(now.plus(window));
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static ServletRequestAttributes currentAttributes() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes ? attributes : null;
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.unternehmenshandbuch.config;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+public class ReplicaLagMonitor {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    private final Duration maxLag;
+
+    private final String lagQuery;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, ReadYourWritesTracker readYourWritesTracker,
+                             Duration maxLag, String lagQuery) {
+        this.routingDataSource = routingDataSource;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+    }
+
+    @Scheduled(fixedDelayString = "${handbook.datasource.replica.lag-check-interval:PT1S}")
+    public void checkReplicas() {
+        for (Map.Entry<String, DataSource> replica : routingDataSource.getReplicas().entrySet()) {
+            routingDataSource.markLagging(replica.getKey(), isLagging(replica.getValue()));
+        }
+        readYourWritesTracker.purgeExpired();
+    }
+
+    private boolean isLagging(DataSource replica) {
+        try {
+            Double lagSeconds = new JdbcTemplate(replica).queryForObject(lagQuery, Double.class);
+            return lagSeconds == null || lagSeconds * 1000 > maxLag.toMillis();
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+}
@@ -1,25 +1,52 @@
 package com.example.unternehmenshandbuch.controller;
 
+import com.example.unternehmenshandbuch.controller.dto.ArticlePageResponseDto;
 import com.example.unternehmenshandbuch.controller.dto.ArticleResponseDto;
 import com.example.unternehmenshandbuch.controller.dto.ArticleStatusEditingAndVersionDto;
+import com.example.unternehmenshandbuch.controller.dto.ArticleSuggestionDto;
+import com.example.unternehmenshandbuch.controller.dto.ArticleSummaryDto;
 import com.example.unternehmenshandbuch.service.dto.ArticleRequestDto;
 import com.example.unternehmenshandbuch.mapper.ArticleMapper;
 import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleEditorAndVersion;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleSummary;
+import com.example.unternehmenshandbuch.service.ArticleImportService;
+import com.example.unternehmenshandbuch.service.ArticleReviewQueueService;
+import com.example.unternehmenshandbuch.service.ArticleSearchService;
 import com.example.unternehmenshandbuch.service.ArticleService;
+import com.example.unternehmenshandbuch.service.ArticleTypeaheadService;
+import com.example.unternehmenshandbuch.service.dto.ArticleBulkReviewReport;
+import com.example.unternehmenshandbuch.service.dto.ArticleBulkReviewRequestDto;
+import com.example.unternehmenshandbuch.service.dto.ArticleImportReport;
+import com.example.unternehmenshandbuch.service.dto.ArticlePage;
+import com.example.unternehmenshandbuch.service.dto.ArticleSearchPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.Principal;
 import java.util.List;
 
 @RestController
 public class ArticleController implements ArticleResource {
 
     private final ArticleService articleService;
+    private final ArticleImportService articleImportService;
+    private final ArticleSearchService articleSearchService;
+    private final ArticleTypeaheadService articleTypeaheadService;
+    private final ArticleReviewQueueService articleReviewQueueService;
     private final ArticleMapper articleMapper;
 
     @Autowired
-    public ArticleController(ArticleService articleService, ArticleMapper articleMapper) {
+    public ArticleController(ArticleService articleService, ArticleImportService articleImportService,
+                             ArticleSearchService articleSearchService, ArticleTypeaheadService articleTypeaheadService,
+                             ArticleReviewQueueService articleReviewQueueService, ArticleMapper articleMapper) {
         this.articleService = articleService;
+        this.articleImportService = articleImportService;
+        this.articleSearchService = articleSearchService;
+        this.articleTypeaheadService = articleTypeaheadService;
+        this.articleReviewQueueService = articleReviewQueueService;
         this.articleMapper = articleMapper;
     }
 
@@ -30,15 +57,42 @@ public class ArticleController implements ArticleResource {
 	}
 
     @Override
-    public ResponseEntity<List<ArticleResponseDto>> getArticlesByStatusSubmitted() {
-        List<Article> articles = articleService.getArticlesByStatus();
-        return ResponseEntity.ok(articleMapper.mapToDtoList(articles));
+    public ResponseEntity<ArticleImportReport> importArticles(InputStream body) throws IOException {
+        return ResponseEntity.ok(articleImportService.importArticles(body));
     }
 
     @Override
-    public ResponseEntity<List<ArticleResponseDto>> getArticlesApproved() {
-        List<Article> articles = articleService.getApprovedArticles();
-        return ResponseEntity.ok(articleMapper.mapToDtoList(articles));
+    public ResponseEntity<List<ArticleSummaryDto>> getArticlesByStatusSubmitted() {
+        List<ArticleSummary> articles = articleService.getArticlesByStatus();
+        return ResponseEntity.ok(articleMapper.mapToSummaryDtoList(articles));
+    }
+
+    @Override
+    public ResponseEntity<ArticlePageResponseDto> getArticlePageByStatusSubmitted(String cursor, Integer size) {
+        ArticlePage page = articleService.getArticlePageByStatus(Article.ArticleStatus.SUBMITTED, cursor, size);
+        return ResponseEntity.ok(articleMapper.mapToPageDto(page));
+    }
+
+    @Override
+    public ResponseEntity<List<ArticleSummaryDto>> getArticlesApproved() {
+        List<ArticleSummary> articles = articleService.getApprovedArticles();
+        return ResponseEntity.ok(articleMapper.mapToSummaryDtoList(articles));
+    }
+
+    @Override
+    public ResponseEntity<ArticlePageResponseDto> getArticlePageApproved(String cursor, Integer size) {
+        ArticlePage page = articleService.getArticlePageByStatus(Article.ArticleStatus.APPROVED, cursor, size);
+        return ResponseEntity.ok(articleMapper.mapToPageDto(page));
+    }
+
+    @Override
+    public ResponseEntity<ArticleSearchPage> searchArticles(String q, Integer page, Integer size) {
+        return ResponseEntity.ok(articleSearchService.search(q, page, size));
+    }
+
+    @Override
+    public ResponseEntity<List<ArticleSuggestionDto>> suggestArticleTitles(String prefix, Integer limit) {
+        return ResponseEntity.ok(articleMapper.mapToSuggestionDtoList(articleTypeaheadService.suggest(prefix, limit)));
     }
 
     @Override
@@ -60,9 +114,9 @@ public class ArticleController implements ArticleResource {
     }
 
     @Override
-    public ResponseEntity<List<ArticleResponseDto>> getArticlesEditedByUser(String username) {
-        List<Article> articles = articleService.getArticlesByUserAndStatus(username, Article.ArticleStatus.EDITING);
-        return ResponseEntity.ok(articleMapper.mapToDtoList(articles));
+    public ResponseEntity<List<ArticleSummaryDto>> getArticlesEditedByUser(String username) {
+        List<ArticleSummary> articles = articleService.getArticlesByUserAndStatus(username, Article.ArticleStatus.EDITING);
+        return ResponseEntity.ok(articleMapper.mapToSummaryDtoList(articles));
     }
 
     @Override
@@ -79,10 +133,10 @@ public class ArticleController implements ArticleResource {
     }
 
     @Override
-    public ResponseEntity<List<ArticleResponseDto>> getAllApprovedArticlesByPublicId(String publicId, String status) {
+    public ResponseEntity<List<ArticleSummaryDto>> getAllApprovedArticlesByPublicId(String publicId, String status) {
         Article.ArticleStatus statusInEnum = Article.ArticleStatus.valueOf(status.toUpperCase());
-        List<Article> articles = articleService.getAllApprovedArticlesByPublicId(publicId, statusInEnum);
-        return ResponseEntity.ok(articleMapper.mapToDtoList(articles));
+        List<ArticleSummary> articles = articleService.getAllApprovedArticlesByPublicId(publicId, statusInEnum);
+        return ResponseEntity.ok(articleMapper.mapToSummaryDtoList(articles));
     }
 
     @Override
@@ -98,6 +152,13 @@ public class ArticleController implements ArticleResource {
         return ResponseEntity.ok(articleMapper.mapToDto(article));
     }
 
+    @Override
+    public ResponseEntity<ArticleResponseDto> claimNextSubmittedArticle(Principal principal) {
+        return articleReviewQueueService.claimNextSubmittedArticle(principal.getName())
+                .map(article -> ResponseEntity.ok(articleMapper.mapToDto(article)))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
     @Override
     public ResponseEntity<ArticleResponseDto> setSubmitStatus(ArticleRequestDto articleRequestDto) {
         Article createdArticle = articleService.setSubmitStatus(articleRequestDto);
@@ -111,9 +172,19 @@ public class ArticleController implements ArticleResource {
         return ResponseEntity.ok(articleMapper.mapToDto(article));
     }
 
+    @Override
+    public ResponseEntity<ArticleBulkReviewReport> approveArticles(ArticleBulkReviewRequestDto request) {
+        return ResponseEntity.ok(articleService.approveArticles(request.getItems()));
+    }
+
+    @Override
+    public ResponseEntity<ArticleBulkReviewReport> declineArticles(ArticleBulkReviewRequestDto request) {
+        return ResponseEntity.ok(articleService.declineArticles(request.getItems(), request.getDenyText()));
+    }
+
     @Override
     public ResponseEntity<ArticleStatusEditingAndVersionDto> getEditedByWithStatusEditingAndVersion(String publicId) {
-        Article article = articleService.getEditedByWithStatusEditingAndVersion(publicId);
+        ArticleEditorAndVersion article = articleService.getEditedByWithStatusEditingAndVersion(publicId);
         return ResponseEntity.ok(articleMapper.mapToStatusEditingAndVersion(article));
     }
 }
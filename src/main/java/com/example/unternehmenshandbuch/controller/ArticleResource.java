@@ -1,7 +1,14 @@
 package com.example.unternehmenshandbuch.controller;
 
+import com.example.unternehmenshandbuch.controller.dto.ArticlePageResponseDto;
 import com.example.unternehmenshandbuch.controller.dto.ArticleResponseDto;
 import com.example.unternehmenshandbuch.controller.dto.ArticleStatusEditingAndVersionDto;
+import com.example.unternehmenshandbuch.controller.dto.ArticleSuggestionDto;
+import com.example.unternehmenshandbuch.controller.dto.ArticleSummaryDto;
+import com.example.unternehmenshandbuch.service.dto.ArticleBulkReviewReport;
+import com.example.unternehmenshandbuch.service.dto.ArticleBulkReviewRequestDto;
+import com.example.unternehmenshandbuch.service.dto.ArticleImportReport;
+import com.example.unternehmenshandbuch.service.dto.ArticleSearchPage;
 import com.example.unternehmenshandbuch.service.dto.ArticleRequestDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,10 +16,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.Principal;
 import java.util.List;
 
 @Validated
@@ -27,19 +38,37 @@ public interface ArticleResource {
     @PostMapping("/articles")
     ResponseEntity<ArticleResponseDto> createArticle(@Valid @RequestBody ArticleRequestDto articleRequestDto);
 
+    @Operation(summary = "Import articles from a JSON array or newline-delimited JSON stream")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, with the result of every record", content = @Content(schema = @Schema(implementation = ArticleImportReport.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @PostMapping(value = "/articles/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    ResponseEntity<ArticleImportReport> importArticles(InputStream body) throws IOException;
+
     @Operation(summary = "Get all articles that are in 'submitted' status")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "List of articles with 'submitted' status", content = @Content(schema = @Schema(implementation = ArticleResponseDto.class))),
+            @ApiResponse(responseCode = "200", description = "List of articles with 'submitted' status", content = @Content(schema = @Schema(implementation = ArticleSummaryDto.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
     })
     @GetMapping("/articles")
-    ResponseEntity<List<ArticleResponseDto>> getArticlesByStatusSubmitted();
+    ResponseEntity<List<ArticleSummaryDto>> getArticlesByStatusSubmitted();
+
+    @Operation(summary = "Get a page of articles that are in 'submitted' status, ordered by creation time")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of articles with 'submitted' status and the cursor of the next page", content = @Content(schema = @Schema(implementation = ArticlePageResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @GetMapping("/articles/page")
+    ResponseEntity<ArticlePageResponseDto> getArticlePageByStatusSubmitted(@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size);
 
     @Operation(summary = "Update an existing article")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Article updated successfully", content = @Content(schema = @Schema(implementation = ArticleResponseDto.class))),
             @ApiResponse(responseCode = "400", description = "Invalid article request, validation failed", content = @Content),
             @ApiResponse(responseCode = "404", description = "Article not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Article was changed concurrently", content = @Content),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
     })
     @PostMapping("/articles/{id}/{isEditable}")
@@ -50,18 +79,46 @@ public interface ArticleResource {
             @ApiResponse(responseCode = "200", description = "Article approval status updated successfully", content = @Content(schema = @Schema(implementation = ArticleResponseDto.class))),
             @ApiResponse(responseCode = "400", description = "Invalid approval status provided", content = @Content),
             @ApiResponse(responseCode = "404", description = "Article not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Article is no longer submitted or its row version does not match", content = @Content),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
     })
     @PostMapping("/articles/approval/{publicId}")
     ResponseEntity<ArticleResponseDto> approveArticle(@PathVariable String publicId, @RequestBody ArticleRequestDto articleRequestDto);
 
-    @Operation(summary = "Get all approved articles")
+    @Operation(summary = "Get the current approved version of every article")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "List of approved articles", content = @Content(schema = @Schema(implementation = ArticleResponseDto.class))),
+            @ApiResponse(responseCode = "200", description = "List of the current approved article versions", content = @Content(schema = @Schema(implementation = ArticleSummaryDto.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
     })
     @GetMapping("/articles/approved")
-    ResponseEntity<List<ArticleResponseDto>> getArticlesApproved();
+    ResponseEntity<List<ArticleSummaryDto>> getArticlesApproved();
+
+    @Operation(summary = "Get a page of approved articles, ordered by creation time")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of approved articles and the cursor of the next page", content = @Content(schema = @Schema(implementation = ArticlePageResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @GetMapping("/articles/approved/page")
+    ResponseEntity<ArticlePageResponseDto> getArticlePageApproved(@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer size);
+
+    @Operation(summary = "Full-text search over the current approved article versions, ranked by relevance")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of matching articles with highlighted snippets", content = @Content(schema = @Schema(implementation = ArticleSearchPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid query, page or page size", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @GetMapping("/articles/search")
+    ResponseEntity<ArticleSearchPage> searchArticles(@RequestParam String q, @RequestParam(required = false) Integer page, @RequestParam(required = false) Integer size);
+
+    @Operation(summary = "Suggest current approved article titles starting with a prefix")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Titles starting with the prefix, case-insensitive and in alphabetical order", content = @Content(schema = @Schema(implementation = ArticleSuggestionDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid limit", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @GetMapping("/articles/suggest")
+    ResponseEntity<List<ArticleSuggestionDto>> suggestArticleTitles(@RequestParam String prefix, @RequestParam(required = false) Integer limit);
 
     @Operation(summary = "Get the latest version of an article by public ID")
     @ApiResponses(value = {
@@ -74,12 +131,12 @@ public interface ArticleResource {
 
     @Operation(summary = "Get articles being edited by a specific user")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "List of articles being edited by the user", content = @Content(schema = @Schema(implementation = ArticleResponseDto.class))),
+            @ApiResponse(responseCode = "200", description = "List of articles being edited by the user", content = @Content(schema = @Schema(implementation = ArticleSummaryDto.class))),
             @ApiResponse(responseCode = "400", description = "Invalid username provided", content = @Content),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
     })
     @GetMapping("/articles/user/{username}")
-    ResponseEntity<List<ArticleResponseDto>> getArticlesEditedByUser(@PathVariable String username);
+    ResponseEntity<List<ArticleSummaryDto>> getArticlesEditedByUser(@PathVariable String username);
 
     @Operation(summary = "Get the approved version of an article by public ID")
     @ApiResponses(value = {
@@ -101,11 +158,11 @@ public interface ArticleResource {
 
     @Operation(summary = "Get all approved articles by public ID and status")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "List of approved articles by public ID and status", content = @Content(schema = @Schema(implementation = ArticleResponseDto.class))),
+            @ApiResponse(responseCode = "200", description = "List of approved articles by public ID and status", content = @Content(schema = @Schema(implementation = ArticleSummaryDto.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
     })
     @GetMapping("/articles/{publicId}/approvedArticlesByPublicId/{status}")
-    ResponseEntity<List<ArticleResponseDto>> getAllApprovedArticlesByPublicId(@PathVariable String publicId, @PathVariable String status);
+    ResponseEntity<List<ArticleSummaryDto>> getAllApprovedArticlesByPublicId(@PathVariable String publicId, @PathVariable String status);
 
     @Operation(summary = "Get article by public ID, version, and status")
     @ApiResponses(value = {
@@ -125,10 +182,20 @@ public interface ArticleResource {
     @GetMapping("/articles/{publicId}/{version}")
     ResponseEntity<ArticleResponseDto> getArticleByPublicIdAndVersion(@PathVariable String publicId, @PathVariable Integer version);
 
+    @Operation(summary = "Claim the next submitted article for review")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Article claimed by the current reviewer until the lease expires", content = @Content(schema = @Schema(implementation = ArticleResponseDto.class))),
+            @ApiResponse(responseCode = "204", description = "No unclaimed submitted article is waiting for review", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @PostMapping("/articles/claim")
+    ResponseEntity<ArticleResponseDto> claimNextSubmittedArticle(Principal principal);
+
     @Operation(summary = "Set the submit status of an article")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Article submit status set successfully", content = @Content(schema = @Schema(implementation = ArticleResponseDto.class))),
             @ApiResponse(responseCode = "400", description = "Invalid submit status request", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Article is no longer being edited or its row version does not match", content = @Content),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
     })
     @PostMapping("/articles/submitting")
@@ -139,11 +206,30 @@ public interface ArticleResource {
             @ApiResponse(responseCode = "200", description = "Article declined successfully", content = @Content(schema = @Schema(implementation = ArticleResponseDto.class))),
             @ApiResponse(responseCode = "400", description = "Invalid decline request", content = @Content),
             @ApiResponse(responseCode = "404", description = "Article not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Article is no longer in the given status", content = @Content),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
     })
     @PostMapping("/articles/decline/{publicId}/{status}/{denyText}")
     ResponseEntity<ArticleResponseDto> declineArticle(@PathVariable String publicId, @PathVariable String status, @PathVariable String denyText);
 
+    @Operation(summary = "Approve several submitted articles in one transaction")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Articles that were approved and articles that were no longer submitted", content = @Content(schema = @Schema(implementation = ArticleBulkReviewReport.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid bulk approval request", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @PostMapping("/articles/bulk/approval")
+    ResponseEntity<ArticleBulkReviewReport> approveArticles(@Valid @RequestBody ArticleBulkReviewRequestDto request);
+
+    @Operation(summary = "Decline several submitted articles in one transaction")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Articles that were declined and articles that were no longer submitted", content = @Content(schema = @Schema(implementation = ArticleBulkReviewReport.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid bulk decline request", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @PostMapping("/articles/bulk/decline")
+    ResponseEntity<ArticleBulkReviewReport> declineArticles(@Valid @RequestBody ArticleBulkReviewRequestDto request);
+
     @Operation(summary = "Get the editor of an article with status 'EDITING'")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Editor retrieved successfully"),
@@ -1,10 +1,13 @@
 package com.example.unternehmenshandbuch.controller;
 
 import com.example.unternehmenshandbuch.controller.dto.LoginForm;
+import com.example.unternehmenshandbuch.exception.ServiceBusyException;
 import com.example.unternehmenshandbuch.model.AppUser;
 import com.example.unternehmenshandbuch.persistence.AppUserRepository;
 import com.example.unternehmenshandbuch.service.AppUserDetailsServiceImpl;
 import com.example.unternehmenshandbuch.service.JwtService;
+import com.example.unternehmenshandbuch.service.TokenVersionService;
+import com.example.unternehmenshandbuch.service.UserDetailsCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,6 +15,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -23,14 +27,18 @@ public class AuthController implements AuthResource {
     private final AppUserDetailsServiceImpl appUserDetailsServiceImpl;
     private final PasswordEncoder passwordEncoder;
     private final AppUserRepository repository;
+    private final UserDetailsCache userDetailsCache;
+    private final TokenVersionService tokenVersionService;
 
     @Autowired
-    AuthController(AuthenticationManager authenticationManager, JwtService jwtService, AppUserDetailsServiceImpl appUserDetailsServiceImpl, PasswordEncoder passwordEncoder, AppUserRepository repository) {
+    AuthController(AuthenticationManager authenticationManager, JwtService jwtService, AppUserDetailsServiceImpl appUserDetailsServiceImpl, PasswordEncoder passwordEncoder, AppUserRepository repository, UserDetailsCache userDetailsCache, TokenVersionService tokenVersionService) {
         this.authenticationManager = authenticationManager;
         this.jwtService = jwtService;
         this.appUserDetailsServiceImpl = appUserDetailsServiceImpl;
         this.passwordEncoder = passwordEncoder;
         this.repository = repository;
+        this.userDetailsCache = userDetailsCache;
+        this.tokenVersionService = tokenVersionService;
     }
 
     @Override
@@ -46,6 +54,8 @@ public class AuthController implements AuthResource {
             } else {
                 throw new UsernameNotFoundException("Invalid login credentials");
             }
+        } catch (ServiceBusyException ex) {
+            throw ex;
         } catch (Exception ex) {
             throw new UsernameNotFoundException("Invalid login credentials");
         }
@@ -63,7 +73,15 @@ public class AuthController implements AuthResource {
         }
 
         user.setRole(user.getRole());
+        user.setTokenVersion(0);
         repository.save(user);
+        userDetailsCache.invalidate(user.getUsername());
         return ResponseEntity.ok(user);
     }
+
+    @Override
+    public ResponseEntity<Void> revokeTokens(@PathVariable String username) {
+        tokenVersionService.revoke(username);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -7,6 +7,7 @@ import com.example.unternehmenshandbuch.model.AppUser;
 import com.example.unternehmenshandbuch.service.dto.ArticleRequestDto;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
@@ -19,4 +20,7 @@ public interface AuthResource {
     @PostMapping("/authenticate")
     ResponseEntity<String> authenticateAndGetToken(@RequestBody LoginForm loginForm);
 
+    @PostMapping("/users/{username}/revoke")
+    ResponseEntity<Void> revokeTokens(@PathVariable String username);
+
 }
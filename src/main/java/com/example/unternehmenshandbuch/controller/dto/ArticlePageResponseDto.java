@@ -0,0 +1,14 @@
+package com.example.unternehmenshandbuch.controller.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ArticlePageResponseDto {
+
+    private List<ArticleSummaryDto> articles;
+    private String nextCursor;
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 
 
+import java.time.Instant;
 import java.util.List;
 
 @Data
@@ -23,4 +24,7 @@ public class ArticleResponseDto {
     private Boolean isEditable;
     private Boolean isSubmitted;
     private String denyText;
+    private Long rowVersion;
+    private String claimedBy;
+    private Instant claimedUntil;
 }
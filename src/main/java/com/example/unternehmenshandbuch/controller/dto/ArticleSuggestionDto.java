@@ -0,0 +1,12 @@
+package com.example.unternehmenshandbuch.controller.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ArticleSuggestionDto {
+
+    private String publicId;
+    private String title;
+}
@@ -0,0 +1,20 @@
+package com.example.unternehmenshandbuch.controller.dto;
+
+import com.example.unternehmenshandbuch.model.Article;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ArticleSummaryDto {
+
+    private String publicId;
+    private String description;
+    private String title;
+    private Integer version;
+    private Article.ArticleStatus status;
+    private String editedBy;
+    private Boolean isEditable;
+    private Boolean isSubmitted;
+    private String denyText;
+}
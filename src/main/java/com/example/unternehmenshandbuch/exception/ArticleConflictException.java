@@ -0,0 +1,11 @@
+package com.example.unternehmenshandbuch.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.CONFLICT)
+public class ArticleConflictException extends RuntimeException {
+    public ArticleConflictException(String message) {
+        super(message);
+    }
+}
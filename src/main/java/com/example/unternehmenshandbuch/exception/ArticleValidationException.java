@@ -9,6 +9,9 @@ import java.util.Collection;
 import java.util.Map;
 
 public class ArticleValidationException extends RuntimeException {
+
+    public static final int MAX_SEARCH_QUERY_LENGTH = 256;
+
     public ArticleValidationException(String message) {
         super(message);
     }
@@ -35,6 +38,15 @@ public class ArticleValidationException extends RuntimeException {
         }
     }
 
+    public static void validateSearchQuery(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new ArticleValidationException("Search query must not be null or empty");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new ArticleValidationException("Search query must not be longer than " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+    }
+
     public static void validateApprovalStatus(Article.ArticleStatus status) {
         if (status == null) {
             throw new ArticleValidationException("Approval status must not be null");
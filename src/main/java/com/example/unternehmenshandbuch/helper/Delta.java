@@ -0,0 +1,80 @@
+package com.example.unternehmenshandbuch.helper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class Delta {
+
+    private static final int BLOCK_SIZE = 16;
+
+    private static final char COPY = 'C';
+
+    private static final char INSERT = 'I';
+
+    public static String diff(String base, String target) {
+        Map<String, Integer> blocks = new HashMap<>();
+        for (int i = 0; i + BLOCK_SIZE <= base.length(); i += BLOCK_SIZE) {
+            blocks.putIfAbsent(base.substring(i, i + BLOCK_SIZE), i);
+        }
+
+        StringBuilder delta = new StringBuilder();
+        int literalStart = 0;
+        int position = 0;
+        while (position + BLOCK_SIZE <= target.length()) {
+            Integer match = blocks.get(target.substring(position, position + BLOCK_SIZE));
+            if (match == null) {
+                position++;
+                continue;
+            }
+
+            int baseStart = match;
+            int targetStart = position;
+            while (baseStart > 0 && targetStart > literalStart && base.charAt(baseStart - 1) == target.charAt(targetStart - 1)) {
+                baseStart--;
+                targetStart--;
+            }
+            int length = match - baseStart + BLOCK_SIZE;
+            while (baseStart + length < base.length() && targetStart + length < target.length()
+                    && base.charAt(baseStart + length) == target.charAt(targetStart + length)) {
+                length++;
+            }
+
+            appendInsert(delta, target, literalStart, targetStart);
+            delta.append(COPY).append(baseStart).append(',').append(length).append(';');
+            position = targetStart + length;
+            literalStart = position;
+        }
+        appendInsert(delta, target, literalStart, target.length());
+        return delta.toString();
+    }
+
+    public static String apply(String base, String delta) {
+        StringBuilder target = new StringBuilder();
+        int position = 0;
+        while (position < delta.length()) {
+            char operation = delta.charAt(position);
+            if (operation == COPY) {
+                int comma = delta.indexOf(',', position);
+                int end = delta.indexOf(';', comma);
+                int offset = Integer.parseInt(delta, position + 1, comma, 10);
+                int length = Integer.parseInt(delta, comma + 1, end, 10);
+                target.append(base, offset, offset + length);
+                position = end + 1;
+            } else if (operation == INSERT) {
+                int colon = delta.indexOf(':', position);
+                int length = Integer.parseInt(delta, position + 1, colon, 10);
+                target.append(delta, colon + 1, colon + 1 + length);
+                position = colon + 1 + length;
+            } else {
+                throw new IllegalArgumentException("Invalid delta operation '" + operation + "' at " + position);
+            }
+        }
+        return target.toString();
+    }
+
+    private static void appendInsert(StringBuilder delta, String target, int start, int end) {
+        if (end > start) {
+            delta.append(INSERT).append(end - start).append(':').append(target, start, end);
+        }
+    }
+}
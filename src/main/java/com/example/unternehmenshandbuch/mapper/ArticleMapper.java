@@ -1,8 +1,15 @@
 package com.example.unternehmenshandbuch.mapper;
 
+import com.example.unternehmenshandbuch.controller.dto.ArticlePageResponseDto;
 import com.example.unternehmenshandbuch.controller.dto.ArticleResponseDto;
 import com.example.unternehmenshandbuch.controller.dto.ArticleStatusEditingAndVersionDto;
+import com.example.unternehmenshandbuch.controller.dto.ArticleSuggestionDto;
+import com.example.unternehmenshandbuch.controller.dto.ArticleSummaryDto;
 import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleEditorAndVersion;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleSummary;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleTitle;
+import com.example.unternehmenshandbuch.service.dto.ArticlePage;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -27,20 +34,63 @@ public class ArticleMapper {
                 .isEditable(article.getIsEditable())
                 .isSubmitted(article.getIsSubmitted())
                 .denyText(article.getDenyText())
+                .rowVersion(article.getRowVersion())
+                .claimedBy(article.getClaimedBy())
+                .claimedUntil(article.getClaimedUntil())
                 .build();
     }
 
-    public List<ArticleResponseDto> mapToDtoList(List<Article> articles) {
+    public ArticleSummaryDto mapToSummaryDto(ArticleSummary article) {
+        if (article == null) {
+            return null;
+        }
+
+        return ArticleSummaryDto.builder()
+                .publicId(article.publicId())
+                .description(article.description())
+                .title(article.title())
+                .version(article.version())
+                .status(article.status())
+                .editedBy(article.editedBy())
+                .isEditable(article.isEditable())
+                .isSubmitted(article.isSubmitted())
+                .denyText(article.denyText())
+                .build();
+    }
+
+    public List<ArticleSummaryDto> mapToSummaryDtoList(List<ArticleSummary> articles) {
         if (articles == null || articles.isEmpty()) {
             return null;
         }
 
         return articles.stream()
-                .map(this::mapToDto)
+                .map(this::mapToSummaryDto)
+                .collect(Collectors.toList());
+    }
+
+    public List<ArticleSuggestionDto> mapToSuggestionDtoList(List<ArticleTitle> titles) {
+        return titles.stream()
+                .map(title -> ArticleSuggestionDto.builder()
+                        .publicId(title.publicId())
+                        .title(title.title())
+                        .build())
                 .collect(Collectors.toList());
     }
 
-    public ArticleStatusEditingAndVersionDto mapToStatusEditingAndVersion(Article article) {
+    public ArticlePageResponseDto mapToPageDto(ArticlePage page) {
+        if (page == null) {
+            return null;
+        }
+
+        return ArticlePageResponseDto.builder()
+                .articles(page.getArticles().stream()
+                        .map(this::mapToSummaryDto)
+                        .collect(Collectors.toList()))
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+
+    public ArticleStatusEditingAndVersionDto mapToStatusEditingAndVersion(ArticleEditorAndVersion article) {
         if (article == null) {
             return null;
         }
@@ -9,10 +9,11 @@ import lombok.Data;
 public class AppUser {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "app_user_id_seq")
+    @SequenceGenerator(name = "app_user_id_seq", sequenceName = "app_user_id_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false)
+    @Column(nullable = false, unique = true)
     private String username;
 
     @Column(nullable = false)
@@ -20,4 +21,7 @@ public class AppUser {
 
     @Column()
     private String role;
+
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
 }
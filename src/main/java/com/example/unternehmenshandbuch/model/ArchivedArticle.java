@@ -0,0 +1,91 @@
+package com.example.unternehmenshandbuch.model;
+
+import com.example.unternehmenshandbuch.helper.Helper;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "article_archive")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedArticle implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String publicId;
+
+    @Column(nullable = false)
+    private Integer version;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, length = 200)
+    private String description;
+
+    @Column()
+    private String editedBy;
+
+    @Column(name = "content", nullable = false, columnDefinition = "BYTEA")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private byte[] compressedContent;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant archivedAt;
+
+    public static ArchivedArticle of(Article article) {
+        return ArchivedArticle.builder()
+                .id(article.getId())
+                .publicId(article.getPublicId())
+                .version(article.getVersion())
+                .title(article.getTitle())
+                .description(article.getDescription())
+                .editedBy(article.getEditedBy())
+                .compressedContent(Helper.gzip(article.getContent()))
+                .createdAt(article.getCreatedAt())
+                .build();
+    }
+
+    public String getContent() {
+        return Helper.gunzip(compressedContent);
+    }
+
+    public Article toArticle() {
+        return Article.builder()
+                .id(id)
+                .publicId(publicId)
+                .version(version)
+                .title(title)
+                .description(description)
+                .content(getContent())
+                .status(Article.ArticleStatus.APPROVED)
+                .editedBy(editedBy)
+                .isEditable(true)
+                .isSubmitted(false)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    @Override
+    public boolean isNew() {
+        return archivedAt == null;
+    }
+}
@@ -1,11 +1,15 @@
 package com.example.unternehmenshandbuch.model;
 
+import com.example.unternehmenshandbuch.helper.Helper;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.time.Instant;
 
@@ -14,7 +18,7 @@ import java.time.Instant;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class Article {
 
     public enum ArticleStatus {
@@ -24,7 +28,8 @@ public class Article {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "articles_id_seq")
+    @SequenceGenerator(name = "articles_id_seq", sequenceName = "articles_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -36,8 +41,19 @@ public class Article {
     @Column(nullable = false)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String content;
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "content_hash", insertable = false, updatable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private ArticleBody body;
+
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private String pendingContent;
 
     @Column()
     private Integer version;
@@ -59,5 +75,39 @@ public class Article {
     private String denyText;
 
     @CreationTimestamp
+    @Column(nullable = false, updatable = false)
     private Instant createdAt;
+
+    @Version
+    @Column(name = "row_version", nullable = false)
+    private Long rowVersion;
+
+    @Column()
+    @OptimisticLock(excluded = true)
+    private String claimedBy;
+
+    @Column()
+    @OptimisticLock(excluded = true)
+    private Instant claimedUntil;
+
+    public String getContent() {
+        if (pendingContent != null) {
+            return pendingContent;
+        }
+        return body == null ? null : body.getContent();
+    }
+
+    public void setContent(String content) {
+        this.pendingContent = content;
+        this.contentHash = content == null ? null : Helper.sha256Hex(content);
+    }
+
+    public static class ArticleBuilder {
+
+        public ArticleBuilder content(String content) {
+            this.pendingContent = content;
+            this.contentHash = content == null ? null : Helper.sha256Hex(content);
+            return this;
+        }
+    }
 }
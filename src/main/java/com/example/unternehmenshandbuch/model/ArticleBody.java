@@ -0,0 +1,84 @@
+package com.example.unternehmenshandbuch.model;
+
+import jakarta.persistence.*;
+import com.example.unternehmenshandbuch.helper.Delta;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "article_body")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleBody implements Persistable<String> {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "base_hash", length = 64)
+    private String baseHash;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "base_hash", insertable = false, updatable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private ArticleBody base;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public ArticleBody(String hash, String content) {
+        this.hash = hash;
+        this.content = content;
+    }
+
+    public String getContent() {
+        return baseHash == null ? content : Delta.apply(base.getContent(), content);
+    }
+
+    public String getStoredContent() {
+        return content;
+    }
+
+    public boolean isDelta() {
+        return baseHash != null;
+    }
+
+    public boolean encodeAgainst(ArticleBody newer) {
+        String fullContent = getContent();
+        String delta = Delta.diff(newer.getContent(), fullContent);
+        if (delta.length() >= fullContent.length()) {
+            return false;
+        }
+        this.content = delta;
+        this.baseHash = newer.getHash();
+        return true;
+    }
+
+    public void materialize() {
+        this.content = getContent();
+        this.baseHash = null;
+    }
+
+    @Override
+    public String getId() {
+        return hash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return createdAt == null;
+    }
+}
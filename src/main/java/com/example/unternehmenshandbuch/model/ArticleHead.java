@@ -0,0 +1,24 @@
+package com.example.unternehmenshandbuch.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "article_head")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleHead {
+
+    @Id
+    @Column(name = "public_id")
+    private String publicId;
+
+    @Column(name = "approved_article_id", nullable = false)
+    private Long approvedArticleId;
+
+    @Column(nullable = false)
+    private Integer version;
+}
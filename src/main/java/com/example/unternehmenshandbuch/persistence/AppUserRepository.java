@@ -1,13 +1,32 @@
 package com.example.unternehmenshandbuch.persistence;
 
 import com.example.unternehmenshandbuch.model.AppUser;
+import com.example.unternehmenshandbuch.persistence.projection.UserTokenVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AppUserRepository extends JpaRepository<AppUser, Long> {
 
     Optional<AppUser> findByUsername(String username);
+
+    @Query("SELECT new com.example.unternehmenshandbuch.persistence.projection.UserTokenVersion(u.username, u.tokenVersion) "
+            + "FROM AppUser u WHERE u.tokenVersion > 0")
+    List<UserTokenVersion> findAllRevokedTokenVersions();
+
+    @Query("SELECT new com.example.unternehmenshandbuch.persistence.projection.UserTokenVersion(u.username, u.tokenVersion) "
+            + "FROM AppUser u WHERE u.username = :username")
+    Optional<UserTokenVersion> findTokenVersionByUsername(@Param("username") String username);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AppUser u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.username = :username")
+    int incrementTokenVersion(@Param("username") String username);
 }
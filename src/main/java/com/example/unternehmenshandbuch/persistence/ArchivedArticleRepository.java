@@ -0,0 +1,23 @@
+package com.example.unternehmenshandbuch.persistence;
+
+import com.example.unternehmenshandbuch.model.ArchivedArticle;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedArticleRepository extends JpaRepository<ArchivedArticle, Long> {
+
+    Optional<ArchivedArticle> findFirstByPublicIdAndVersionOrderByIdDesc(String publicId, Integer version);
+
+    @Query("SELECT new com.example.unternehmenshandbuch.persistence.projection.ArticleSummary("
+            + "a.id, a.publicId, a.title, a.description, a.version, "
+            + "com.example.unternehmenshandbuch.model.Article.ArticleStatus.APPROVED, a.editedBy, true, false, CAST(NULL AS String), a.createdAt) "
+            + "FROM ArchivedArticle a WHERE a.publicId = :publicId ORDER BY a.version")
+    List<ArticleSummary> findSummariesByPublicId(@Param("publicId") String publicId);
+}
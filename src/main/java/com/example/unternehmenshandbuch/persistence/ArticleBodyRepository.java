@@ -0,0 +1,31 @@
+package com.example.unternehmenshandbuch.persistence;
+
+import com.example.unternehmenshandbuch.model.ArticleBody;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArticleBodyRepository extends JpaRepository<ArticleBody, String>, ArticleBodyRepositoryCustom {
+
+    @Query("SELECT COUNT(h) > 0 FROM ArticleHead h JOIN Article a ON a.id = h.approvedArticleId WHERE a.contentHash = :hash")
+    boolean isHeadBody(@Param("hash") String hash);
+
+    @Query("SELECT b.hash FROM ArticleBody b WHERE b.baseHash IN :baseHashes")
+    List<String> findHashesByBaseHashIn(@Param("baseHashes") Collection<String> baseHashes);
+
+    @Modifying
+    @Query(value = "UPDATE article_body SET created_at = :now WHERE hash IN :hashes", nativeQuery = true)
+    int touch(@Param("hashes") Collection<String> hashes, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM ArticleBody b WHERE b.createdAt < :cutoff AND NOT EXISTS (SELECT 1 FROM Article a WHERE a.contentHash = b.hash) "
+            + "AND NOT EXISTS (SELECT 1 FROM ArticleBody d WHERE d.baseHash = b.hash)")
+    int deleteUnreferencedCreatedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,9 @@
+package com.example.unternehmenshandbuch.persistence;
+
+import java.time.Instant;
+import java.util.Map;
+
+public interface ArticleBodyRepositoryCustom {
+
+    void insertIfAbsent(Map<String, String> contentByHash, Instant createdAt);
+}
@@ -0,0 +1,32 @@
+package com.example.unternehmenshandbuch.persistence;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+
+public class ArticleBodyRepositoryImpl implements ArticleBodyRepositoryCustom {
+
+    private static final String INSERT_IF_ABSENT = "INSERT INTO article_body (hash, content, created_at) "
+            + "VALUES (:hash, :content, :createdAt) ON CONFLICT DO NOTHING";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ArticleBodyRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertIfAbsent(Map<String, String> contentByHash, Instant createdAt) {
+        Timestamp timestamp = Timestamp.from(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, contentByHash.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("hash", entry.getKey())
+                        .addValue("content", entry.getValue())
+                        .addValue("createdAt", timestamp))
+                .toArray(SqlParameterSource[]::new));
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.unternehmenshandbuch.persistence;
+
+import com.example.unternehmenshandbuch.model.ArticleHead;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface ArticleHeadRepository extends JpaRepository<ArticleHead, String> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ArticleHead h SET "
+            + "h.approvedArticleId = (SELECT a.id FROM Article a WHERE a.id IN :ids AND a.status = 'APPROVED' AND a.publicId = h.publicId), "
+            + "h.version = (SELECT a.version FROM Article a WHERE a.id IN :ids AND a.status = 'APPROVED' AND a.publicId = h.publicId) "
+            + "WHERE h.publicId IN (SELECT a.publicId FROM Article a WHERE a.id IN :ids AND a.status = 'APPROVED')")
+    int moveToArticles(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("INSERT INTO ArticleHead (publicId, approvedArticleId, version) "
+            + "SELECT a.publicId, a.id, a.version FROM Article a "
+            + "WHERE a.id IN :ids AND a.status = 'APPROVED' AND NOT EXISTS (SELECT 1 FROM ArticleHead h WHERE h.publicId = a.publicId)")
+    int insertForArticles(@Param("ids") Collection<Long> ids);
+}
@@ -1,41 +1,128 @@
 package com.example.unternehmenshandbuch.persistence;
 
 import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleEditorAndVersion;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleSummary;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleTitle;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ArticleRepository extends JpaRepository<Article, Long> {
 
+    String SKIP_LOCKED = "-2";
+
+    String SELECT_SUMMARY = "SELECT new com.example.unternehmenshandbuch.persistence.projection.ArticleSummary("
+            + "a.id, a.publicId, a.title, a.description, a.version, a.status, a.editedBy, a.isEditable, a.isSubmitted, a.denyText, a.createdAt) "
+            + "FROM Article a ";
+
     Optional<Article> findFirstByPublicId(String publicId);
 
     Optional<Article> findByPublicIdAndVersion(String publicId, Integer version);
 
-    List<Article> findAllByStatus(Article.ArticleStatus status);
+    @Query(SELECT_SUMMARY + "WHERE a.status = :status")
+    List<ArticleSummary> findAllByStatus(@Param("status") Article.ArticleStatus status);
+
+    @Query(SELECT_SUMMARY + "WHERE a.status = :status ORDER BY a.createdAt, a.id")
+    List<ArticleSummary> findPageByStatus(@Param("status") Article.ArticleStatus status, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "WHERE a.status = :status AND (a.createdAt > :createdAt OR (a.createdAt = :createdAt AND a.id > :id)) ORDER BY a.createdAt, a.id")
+    List<ArticleSummary> findPageByStatusAfter(@Param("status") Article.ArticleStatus status, @Param("createdAt") Instant createdAt, @Param("id") Long id, Pageable pageable);
 
     Article findByStatus(Article.ArticleStatus status);
 
     Optional<Article> findFirstByPublicIdOrderByVersionDesc(String publicId);
 
-    List<Article> findByEditedByAndStatus(String editedBy, Article.ArticleStatus status);
+    @Query(SELECT_SUMMARY + "WHERE a.editedBy = :editedBy AND a.status = :status")
+    List<ArticleSummary> findByEditedByAndStatus(@Param("editedBy") String editedBy, @Param("status") Article.ArticleStatus status);
 
     Article findByPublicIdAndStatus(String publicId, Article.ArticleStatus articleStatus);
 
     Article findByPublicIdAndStatusAndIsEditableTrue(String publicId, Article.ArticleStatus articleStatus);
 
-    @Query("SELECT a FROM Article a WHERE a.publicId = :publicId AND a.status = 'APPROVED' AND a.version = (SELECT MAX(a2.version) FROM Article a2 WHERE a2.publicId = :publicId AND a2.status = 'APPROVED')")
+    @Query("SELECT a FROM ArticleHead h JOIN Article a ON a.id = h.approvedArticleId WHERE h.publicId = :publicId")
     Optional<Article> findLatestApprovedArticleByPublicId(@Param("publicId") String publicId);
 
-    @Query("SELECT a FROM Article a WHERE a.publicId = :publicId AND a.status = :status")
-    List<Article> findAllApprovedArticlesByPublicId(@Param("publicId") String publicId, @Param("status") Article.ArticleStatus status);
+    @Query(SELECT_SUMMARY + "JOIN ArticleHead h ON h.approvedArticleId = a.id")
+    List<ArticleSummary> findAllLatestApproved();
+
+    @Query(SELECT_SUMMARY + "WHERE a.publicId = :publicId AND a.status = :status")
+    List<ArticleSummary> findAllApprovedArticlesByPublicId(@Param("publicId") String publicId, @Param("status") Article.ArticleStatus status);
 
     Optional<Article> findArticleByPublicIdAndVersionAndStatus(String publicId, Integer version, Article.ArticleStatus status);
 
-    @Query("SELECT a FROM Article a WHERE a.publicId = :publicId AND a.status = 'EDITING'")
-    Article getEditedByWithStatusEditingAndVersion(String publicId);
-}
\ No newline at end of file
+    @Query("SELECT a.editedBy AS editedBy, a.version AS version FROM Article a WHERE a.publicId = :publicId AND a.status = 'EDITING'")
+    ArticleEditorAndVersion getEditedByWithStatusEditingAndVersion(@Param("publicId") String publicId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Article a WHERE a.status = :status AND a.publicId IN :publicIds")
+    List<Article> findAndLockByStatusAndPublicIdIn(@Param("status") Article.ArticleStatus status, @Param("publicIds") Collection<String> publicIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("SELECT a FROM Article a WHERE a.status = 'SUBMITTED' AND a.claimedBy = :reviewer AND a.claimedUntil > :now ORDER BY a.createdAt, a.id")
+    List<Article> findAndLockClaimedByReviewer(@Param("reviewer") String reviewer, @Param("now") Instant now, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("SELECT a FROM Article a WHERE a.status = 'SUBMITTED' AND (a.claimedUntil IS NULL OR a.claimedUntil <= :now) ORDER BY a.createdAt, a.id")
+    List<Article> findAndLockNextClaimable(@Param("now") Instant now, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Article a SET a.status = :#{#next.status}, a.title = :#{#next.title}, a.description = :#{#next.description}, "
+            + "a.contentHash = :#{#next.contentHash}, a.version = :#{#next.version}, a.editedBy = :#{#next.editedBy}, "
+            + "a.isEditable = :#{#next.isEditable}, a.isSubmitted = :#{#next.isSubmitted}, a.denyText = :#{#next.denyText}, "
+            + "a.claimedBy = NULL, a.claimedUntil = NULL, a.rowVersion = a.rowVersion + 1 "
+            + "WHERE a.id = :#{#next.id} AND a.status = :expectedStatus AND a.rowVersion = :expectedRowVersion")
+    int compareAndSet(@Param("next") Article next, @Param("expectedStatus") Article.ArticleStatus expectedStatus,
+                      @Param("expectedRowVersion") Long expectedRowVersion);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Article a SET a.status = 'APPROVED', a.version = a.version + 1, a.isEditable = true, a.isSubmitted = false, "
+            + "a.claimedBy = NULL, a.claimedUntil = NULL, a.rowVersion = a.rowVersion + 1 "
+            + "WHERE a.id IN :ids AND a.status = 'SUBMITTED'")
+    int approveSubmitted(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Article a SET a.status = 'EDITING', a.isSubmitted = false, a.denyText = :denyText, "
+            + "a.claimedBy = NULL, a.claimedUntil = NULL, a.rowVersion = a.rowVersion + 1 "
+            + "WHERE a.id IN :ids AND a.status = 'SUBMITTED'")
+    int declineSubmitted(@Param("ids") Collection<Long> ids, @Param("denyText") String denyText);
+
+    @Query("SELECT a FROM Article a JOIN FETCH a.body JOIN ArticleHead h ON h.approvedArticleId = a.id WHERE a.id > :afterId ORDER BY a.id")
+    List<Article> findLatestApprovedWithBodyAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT a FROM Article a JOIN FETCH a.body JOIN ArticleHead h ON h.approvedArticleId = a.id WHERE a.publicId IN :publicIds")
+    List<Article> findLatestApprovedWithBodyByPublicIdIn(@Param("publicIds") Collection<String> publicIds);
+
+    @Query("SELECT new com.example.unternehmenshandbuch.persistence.projection.ArticleTitle(a.publicId, a.title) "
+            + "FROM Article a JOIN ArticleHead h ON h.approvedArticleId = a.id")
+    List<ArticleTitle> findAllLatestApprovedTitles();
+
+    @Query("SELECT new com.example.unternehmenshandbuch.persistence.projection.ArticleTitle(a.publicId, a.title) "
+            + "FROM Article a JOIN ArticleHead h ON h.approvedArticleId = a.id WHERE a.publicId IN :publicIds")
+    List<ArticleTitle> findLatestApprovedTitlesByPublicIdIn(@Param("publicIds") Collection<String> publicIds);
+
+    @Query("SELECT a FROM Article a JOIN FETCH a.body WHERE a.status = 'APPROVED' AND a.id > :afterId "
+            + "AND NOT EXISTS (SELECT 1 FROM ArticleHead h WHERE h.approvedArticleId = a.id) "
+            + "AND (SELECT COUNT(n) FROM Article n WHERE n.publicId = a.publicId AND n.status = 'APPROVED' AND n.version > a.version) >= :keepVersions "
+            + "ORDER BY a.id")
+    List<Article> findSupersededApprovedWithBodyAfter(@Param("afterId") Long afterId, @Param("keepVersions") long keepVersions, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Article a WHERE a.id IN :ids AND a.status = 'APPROVED'")
+    int deleteApprovedByIdIn(@Param("ids") Collection<Long> ids);
+}
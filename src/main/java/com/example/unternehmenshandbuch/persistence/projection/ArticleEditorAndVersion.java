@@ -0,0 +1,8 @@
+package com.example.unternehmenshandbuch.persistence.projection;
+
+public interface ArticleEditorAndVersion {
+
+    String getEditedBy();
+
+    Integer getVersion();
+}
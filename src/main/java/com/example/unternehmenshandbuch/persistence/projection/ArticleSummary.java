@@ -0,0 +1,20 @@
+package com.example.unternehmenshandbuch.persistence.projection;
+
+import com.example.unternehmenshandbuch.model.Article;
+
+import java.time.Instant;
+
+public record ArticleSummary(
+        Long id,
+        String publicId,
+        String title,
+        String description,
+        Integer version,
+        Article.ArticleStatus status,
+        String editedBy,
+        Boolean isEditable,
+        Boolean isSubmitted,
+        String denyText,
+        Instant createdAt
+) {
+}
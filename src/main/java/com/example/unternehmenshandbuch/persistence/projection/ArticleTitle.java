@@ -0,0 +1,7 @@
+package com.example.unternehmenshandbuch.persistence.projection;
+
+public record ArticleTitle(
+        String publicId,
+        String title
+) {
+}
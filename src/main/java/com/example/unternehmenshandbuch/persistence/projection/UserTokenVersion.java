@@ -0,0 +1,7 @@
+package com.example.unternehmenshandbuch.persistence.projection;
+
+public record UserTokenVersion(
+        String username,
+        Integer tokenVersion
+) {
+}
@@ -0,0 +1,18 @@
+package com.example.unternehmenshandbuch.service;
+
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+public class AppUserDetails extends User {
+
+    private final int tokenVersion;
+
+    public AppUserDetails(UserDetails details, int tokenVersion) {
+        super(details.getUsername(), details.getPassword(), details.getAuthorities());
+        this.tokenVersion = tokenVersion;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+}
@@ -24,11 +24,12 @@ public class AppUserDetailsServiceImpl implements UserDetailsService {
         Optional<AppUser> user = repository.findByUsername(username);
         if(user.isPresent()){
             AppUser userObj = user.get();
-            return User.builder()
+            UserDetails details = User.builder()
                     .username(userObj.getUsername())
                     .password(userObj.getPassword())
                     .roles(getRoles(userObj))
                     .build();
+            return new AppUserDetails(details, userObj.getTokenVersion());
         } else {
             throw new UsernameNotFoundException("Username: " + username + " not found");
         }
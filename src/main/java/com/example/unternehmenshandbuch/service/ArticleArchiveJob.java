@@ -0,0 +1,65 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.model.ArchivedArticle;
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.persistence.ArchivedArticleRepository;
+import com.example.unternehmenshandbuch.persistence.ArticleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Component
+public class ArticleArchiveJob {
+
+    private final ArticleRepository articleRepository;
+
+    private final ArchivedArticleRepository archivedArticleRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int keepVersions;
+
+    private final int batchSize;
+
+    public ArticleArchiveJob(ArticleRepository articleRepository, ArchivedArticleRepository archivedArticleRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${handbook.storage.archive.keep-versions:5}") int keepVersions,
+                             @Value("${handbook.storage.archive.batch-size:500}") int batchSize) {
+        this.articleRepository = articleRepository;
+        this.archivedArticleRepository = archivedArticleRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.keepVersions = Math.max(1, keepVersions);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${handbook.storage.archive.interval:PT24H}",
+            initialDelayString = "${handbook.storage.archive.interval:PT24H}")
+    public int archiveSupersededVersions() {
+        int archived = 0;
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Article> batch = transactionTemplate.execute(status -> archiveBatch(afterId));
+            if (batch == null || batch.isEmpty()) {
+                return archived;
+            }
+            archived += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+    }
+
+    private List<Article> archiveBatch(long afterId) {
+        List<Article> articles = articleRepository.findSupersededApprovedWithBodyAfter(afterId, keepVersions, PageRequest.ofSize(batchSize));
+        if (articles.isEmpty()) {
+            return articles;
+        }
+        archivedArticleRepository.saveAll(articles.stream().map(ArchivedArticle::of).toList());
+        articleRepository.deleteApprovedByIdIn(articles.stream().map(Article::getId).toList());
+        return articles;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.persistence.ArticleBodyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Component
+public class ArticleBodyCleanupJob {
+
+    private final ArticleBodyRepository articleBodyRepository;
+
+    private final Duration gracePeriod;
+
+    public ArticleBodyCleanupJob(ArticleBodyRepository articleBodyRepository,
+                                 @Value("${handbook.storage.body-cleanup.grace-period:PT1H}") Duration gracePeriod) {
+        this.articleBodyRepository = articleBodyRepository;
+        this.gracePeriod = gracePeriod;
+    }
+
+    @Scheduled(fixedDelayString = "${handbook.storage.body-cleanup.interval:PT6H}")
+    @Transactional
+    public int deleteOrphanedBodies() {
+        return articleBodyRepository.deleteUnreferencedCreatedBefore(Instant.now().minus(gracePeriod));
+    }
+}
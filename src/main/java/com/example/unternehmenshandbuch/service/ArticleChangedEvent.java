@@ -0,0 +1,6 @@
+package com.example.unternehmenshandbuch.service;
+
+import java.util.Collection;
+
+public record ArticleChangedEvent(Collection<String> publicIds) {
+}
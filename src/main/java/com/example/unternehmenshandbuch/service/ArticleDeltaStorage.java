@@ -0,0 +1,83 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.exception.ResourceNotFoundException;
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.model.ArticleBody;
+import com.example.unternehmenshandbuch.persistence.ArticleBodyRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Component
+public class ArticleDeltaStorage {
+
+    private final ArticleBodyRepository articleBodyRepository;
+
+    private final EntityManager entityManager;
+
+    private final boolean enabled;
+
+    private final int keyframeInterval;
+
+    public ArticleDeltaStorage(ArticleBodyRepository articleBodyRepository, EntityManager entityManager,
+                               @Value("${handbook.storage.delta.enabled:false}") boolean enabled,
+                               @Value("${handbook.storage.delta.keyframe-interval:10}") int keyframeInterval) {
+        this.articleBodyRepository = articleBodyRepository;
+        this.entityManager = entityManager;
+        this.enabled = enabled;
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Transactional
+    public void storePreviousAsDelta(Article previous, Article latest) {
+        if (!enabled || previous == null || previous.getContentHash().equals(latest.getContentHash())) {
+            return;
+        }
+        if (articleBodyRepository.isHeadBody(previous.getContentHash())
+                || dependentDepth(previous.getContentHash()) + 1 >= keyframeInterval) {
+            return;
+        }
+
+        ArticleBody latestBody = findBody(latest.getContentHash());
+        if (latestBody.isDelta()) {
+            latestBody.materialize();
+            store(latestBody);
+        }
+
+        ArticleBody previousBody = findBody(previous.getContentHash());
+        if (previousBody.encodeAgainst(latestBody)) {
+            store(previousBody);
+        }
+    }
+
+    private int dependentDepth(String hash) {
+        Collection<String> dependents = List.of(hash);
+        int depth = 0;
+        while (depth < keyframeInterval) {
+            dependents = articleBodyRepository.findHashesByBaseHashIn(dependents);
+            if (dependents.isEmpty()) {
+                return depth;
+            }
+            depth++;
+        }
+        return depth;
+    }
+
+    private void store(ArticleBody body) {
+        articleBodyRepository.saveAndFlush(body);
+        entityManager.refresh(body);
+    }
+
+    private ArticleBody findBody(String hash) {
+        return articleBodyRepository.findById(hash)
+                .orElseThrow(() -> new ResourceNotFoundException("Article body not found with hash: " + hash));
+    }
+}
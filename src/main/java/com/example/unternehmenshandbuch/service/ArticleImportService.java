@@ -0,0 +1,161 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.exception.ArticleValidationException;
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.service.dto.ArticleImportReport;
+import com.example.unternehmenshandbuch.service.dto.ArticleImportResult;
+import com.example.unternehmenshandbuch.service.dto.ArticleRequestDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class ArticleImportService {
+
+    private final ArticleService articleService;
+
+    private final ObjectMapper objectMapper;
+
+    private final EntityManager entityManager;
+
+    private final Validator validator;
+
+    private final int batchSize;
+
+    public ArticleImportService(ArticleService articleService, ObjectMapper objectMapper, EntityManager entityManager, Validator validator,
+                                @Value("${handbook.import.batch-size:500}") int batchSize) {
+        this.articleService = articleService;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    public ArticleImportReport importArticles(InputStream inputStream) throws IOException {
+        List<ArticleImportResult> results = new ArrayList<>();
+        List<Article> batch = new ArrayList<>(batchSize);
+        List<ArticleImportResult> batchResults = new ArrayList<>(batchSize);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            JsonToken token = nextToken(parser, results);
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = nextToken(parser, results);
+            }
+
+            int index = 0;
+            while (token != null && !(array && token == JsonToken.END_ARRAY)) {
+                ArticleImportResult result = ArticleImportResult.builder().index(index++).build();
+                results.add(result);
+                try {
+                    if (token != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        throw new ArticleValidationException("Record must be a JSON object");
+                    }
+                    JsonNode record = objectMapper.readTree(parser);
+                    Article article = articleService.newArticle(validated(objectMapper.treeToValue(record, ArticleRequestDto.class)));
+                    result.setPublicId(article.getPublicId());
+                    result.setVersion(article.getVersion());
+                    batch.add(article);
+                    batchResults.add(result);
+                } catch (ArticleValidationException e) {
+                    fail(result, e.getMessage());
+                } catch (JsonMappingException e) {
+                    fail(result, "Invalid record: " + e.getOriginalMessage());
+                } catch (JsonProcessingException e) {
+                    fail(result, "Malformed record: " + e.getOriginalMessage());
+                    break;
+                }
+
+                if (batch.size() >= batchSize) {
+                    flush(batch, batchResults);
+                }
+                token = nextToken(parser, results);
+            }
+        } finally {
+            flush(batch, batchResults);
+        }
+
+        int imported = (int) results.stream().filter(r -> r.getStatus() == ArticleImportResult.Status.IMPORTED).count();
+        return new ArticleImportReport(results.size(), imported, results.size() - imported, results);
+    }
+
+    private ArticleRequestDto validated(ArticleRequestDto articleDto) {
+        Set<ConstraintViolation<ArticleRequestDto>> violations = validator.validate(articleDto);
+        if (!violations.isEmpty()) {
+            throw new ArticleValidationException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return articleDto;
+    }
+
+    private void flush(List<Article> batch, List<ArticleImportResult> batchResults) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            if (save(batch)) {
+                batchResults.forEach(result -> result.setStatus(ArticleImportResult.Status.IMPORTED));
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                if (save(List.of(unsaved(batch.get(i))))) {
+                    batchResults.get(i).setStatus(ArticleImportResult.Status.IMPORTED);
+                } else {
+                    fail(batchResults.get(i), "Record could not be saved");
+                }
+            }
+        } finally {
+            batch.clear();
+            batchResults.clear();
+        }
+    }
+
+    private boolean save(List<Article> articles) {
+        try {
+            articleService.saveNewArticles(articles);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private static Article unsaved(Article article) {
+        return article.toBuilder().id(null).rowVersion(null).build();
+    }
+
+    private static JsonToken nextToken(JsonParser parser, List<ArticleImportResult> results) throws IOException {
+        try {
+            return parser.nextToken();
+        } catch (JsonProcessingException e) {
+            ArticleImportResult result = ArticleImportResult.builder().index(results.size()).build();
+            results.add(result);
+            fail(result, "Malformed record: " + e.getOriginalMessage());
+            return null;
+        }
+    }
+
+    private static void fail(ArticleImportResult result, String message) {
+        result.setStatus(ArticleImportResult.Status.FAILED);
+        result.setMessage(message);
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.model.Article;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Component
+public class ArticleReadCache {
+
+    static final String CACHE_NAME = "articles";
+
+    static final int ENTRY_OVERHEAD = 256;
+
+    private final Cache<Key, Article> cache;
+
+    public ArticleReadCache(MeterRegistry meterRegistry,
+                            @Value("${handbook.cache.articles.maximum-weight:64MB}") DataSize maximumWeight,
+                            @Value("${handbook.cache.articles.latest-ttl:PT5M}") Duration latestTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                .weigher((Key key, Article article) -> weigh(article))
+                .expireAfter(new LatestExpiry(latestTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Article getLatestApproved(String publicId, Supplier<Article> loader) {
+        Article article = cache.get(new Key(publicId, null), key -> snapshot(loader.get()));
+        return article == null ? null : copy(article);
+    }
+
+    public Article getVersion(String publicId, Integer version, Supplier<Article> loader) {
+        AtomicReference<Article> uncached = new AtomicReference<>();
+        Article article = cache.get(new Key(publicId, version), key -> {
+            Article loaded = loader.get();
+            if (loaded.getStatus() != Article.ArticleStatus.APPROVED) {
+                uncached.set(loaded);
+                return null;
+            }
+            return snapshot(loaded);
+        });
+        return article == null ? uncached.get() : copy(article);
+    }
+
+    @TransactionalEventListener
+    public void onArticleApproved(ArticleApprovedEvent event) {
+        invalidate(event.publicIds());
+    }
+
+    @TransactionalEventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        invalidate(event.publicIds());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public void invalidate(Collection<String> publicIds) {
+        cache.invalidateAll(publicIds.stream().map(publicId -> new Key(publicId, null)).toList());
+    }
+
+    private static Article snapshot(Article article) {
+        if (article == null) {
+            return null;
+        }
+        return article.toBuilder()
+                .body(null)
+                .content(article.getContent())
+                .build();
+    }
+
+    private static Article copy(Article article) {
+        return article.toBuilder().build();
+    }
+
+    private static int weigh(Article article) {
+        long chars = length(article.getContent()) + length(article.getTitle()) + length(article.getDescription());
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD + 2 * chars);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    record Key(String publicId, Integer version) {
+    }
+
+    private record LatestExpiry(Duration latestTtl) implements Expiry<Key, Article> {
+
+        @Override
+        public long expireAfterCreate(Key key, Article article, long currentTime) {
+            return key.version() == null ? latestTtl.toNanos() : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, Article article, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, article, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, Article article, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
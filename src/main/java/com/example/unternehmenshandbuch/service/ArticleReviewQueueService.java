@@ -0,0 +1,45 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.persistence.ArticleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class ArticleReviewQueueService {
+
+    private final ArticleRepository articleRepository;
+
+    private final Duration claimLease;
+
+    public ArticleReviewQueueService(ArticleRepository articleRepository,
+                                     @Value("${handbook.review.claim-lease:PT15M}") Duration claimLease) {
+        this.articleRepository = articleRepository;
+        this.claimLease = claimLease;
+    }
+
+    @Transactional
+    public Optional<Article> claimNextSubmittedArticle(String reviewer) {
+        Instant now = Instant.now();
+
+        List<Article> claimed = articleRepository.findAndLockClaimedByReviewer(reviewer, now, PageRequest.ofSize(1));
+        if (claimed.isEmpty()) {
+            claimed = articleRepository.findAndLockNextClaimable(now, PageRequest.ofSize(1));
+        }
+        if (claimed.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Article article = claimed.get(0);
+        article.setClaimedBy(reviewer);
+        article.setClaimedUntil(now.plus(claimLease));
+        return Optional.of(article);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.service.dto.ArticleSearchPage;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ArticleSearchService {
+
+    @Transactional(readOnly = true)
+    ArticleSearchPage search(String query, Integer page, Integer size);
+}
@@ -1,7 +1,12 @@
 package com.example.unternehmenshandbuch.service;
 
 import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleEditorAndVersion;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleSummary;
+import com.example.unternehmenshandbuch.service.dto.ArticleBulkReviewReport;
+import com.example.unternehmenshandbuch.service.dto.ArticlePage;
 import com.example.unternehmenshandbuch.service.dto.ArticleRequestDto;
+import com.example.unternehmenshandbuch.service.dto.ArticleReviewItem;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -13,14 +18,22 @@ public interface ArticleService {
     @Transactional
     Article createArticle(ArticleRequestDto articleDto);
 
+    Article newArticle(ArticleRequestDto articleDto);
+
+    @Transactional
+    List<Article> saveNewArticles(List<Article> articles);
+
     @Transactional
     Article getArticleByPublicIdAndVersion(String publicId, Integer version);
 
     @Transactional(readOnly = true)
-    List<Article> getArticlesByStatus();
+    List<ArticleSummary> getArticlesByStatus();
+
+    @Transactional(readOnly = true)
+    List<ArticleSummary> getApprovedArticles();
 
     @Transactional(readOnly = true)
-    List<Article> getApprovedArticles();
+    ArticlePage getArticlePageByStatus(Article.ArticleStatus status, String cursor, Integer size);
 
     @Transactional
     Article updateArticle(String id, ArticleRequestDto articleDto, Integer version, Boolean isEditable);
@@ -28,11 +41,17 @@ public interface ArticleService {
     @Transactional
     Article approveArticle(String publicId, ArticleRequestDto articleDto);
 
+    @Transactional
+    ArticleBulkReviewReport approveArticles(List<ArticleReviewItem> items);
+
+    @Transactional
+    ArticleBulkReviewReport declineArticles(List<ArticleReviewItem> items, String denyText);
+
     @Transactional
     Article setSubmitStatus(ArticleRequestDto articleDto);
 
     @Transactional(readOnly = true)
-    List<Article> getArticlesByUserAndStatus(String username, Article.ArticleStatus status);
+    List<ArticleSummary> getArticlesByUserAndStatus(String username, Article.ArticleStatus status);
 
     @Transactional(readOnly = true)
     Article getLatestArticleByPublicId(String publicId);
@@ -44,7 +63,7 @@ public interface ArticleService {
     Article getSubmittedArticleByPublicIdAndStatus(String publicId,  Article.ArticleStatus status);
 
     @Transactional(readOnly = true)
-    List<Article> getAllApprovedArticlesByPublicId(String publicId, Article.ArticleStatus status);
+    List<ArticleSummary> getAllApprovedArticlesByPublicId(String publicId, Article.ArticleStatus status);
 
     @Transactional(readOnly = true)
     Article getArticleByPublicIdAndVersionAndStatus(String publicId, Integer version, Article.ArticleStatus status);
@@ -53,5 +72,5 @@ public interface ArticleService {
     Article declineArticleByPublicIdAndStatus(String publicId, Article.ArticleStatus status, String denyText);
 
     @Transactional(readOnly = true)
-    Article getEditedByWithStatusEditingAndVersion(String publicId);
+    ArticleEditorAndVersion getEditedByWithStatusEditingAndVersion(String publicId);
 }
@@ -1,26 +1,83 @@
 package com.example.unternehmenshandbuch.service;
 
+import com.example.unternehmenshandbuch.exception.ArticleConflictException;
 import com.example.unternehmenshandbuch.exception.ArticleValidationException;
 import com.example.unternehmenshandbuch.exception.ResourceNotFoundException;
 import com.example.unternehmenshandbuch.helper.Helper;
+import com.example.unternehmenshandbuch.model.ArchivedArticle;
 import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.model.ArticleHead;
+import com.example.unternehmenshandbuch.persistence.ArchivedArticleRepository;
+import com.example.unternehmenshandbuch.persistence.ArticleBodyRepository;
+import com.example.unternehmenshandbuch.persistence.ArticleHeadRepository;
 import com.example.unternehmenshandbuch.persistence.ArticleRepository;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleEditorAndVersion;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleSummary;
+import com.example.unternehmenshandbuch.service.dto.ArticleBulkReviewReport;
+import com.example.unternehmenshandbuch.service.dto.ArticleCursor;
+import com.example.unternehmenshandbuch.service.dto.ArticlePage;
 import com.example.unternehmenshandbuch.service.dto.ArticleRequestDto;
+import com.example.unternehmenshandbuch.service.dto.ArticleReviewItem;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ArticleServiceImpl implements ArticleService {
 
     private final ArticleRepository articleRepository;
 
-    public ArticleServiceImpl(ArticleRepository articleRepository) {
+    private final ArticleBodyRepository articleBodyRepository;
+
+    private final ArticleHeadRepository articleHeadRepository;
+
+    private final ArchivedArticleRepository archivedArticleRepository;
+
+    private final ArticleDeltaStorage articleDeltaStorage;
+
+    private final ArticleReadCache articleReadCache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ArticleServiceImpl(ArticleRepository articleRepository, ArticleBodyRepository articleBodyRepository,
+                              ArticleHeadRepository articleHeadRepository, ArchivedArticleRepository archivedArticleRepository,
+                              ArticleDeltaStorage articleDeltaStorage, ArticleReadCache articleReadCache,
+                              ApplicationEventPublisher eventPublisher) {
         this.articleRepository = articleRepository;
+        this.articleBodyRepository = articleBodyRepository;
+        this.articleHeadRepository = articleHeadRepository;
+        this.archivedArticleRepository = archivedArticleRepository;
+        this.articleDeltaStorage = articleDeltaStorage;
+        this.articleReadCache = articleReadCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public Article createArticle(ArticleRequestDto articleDto) {
+        return save(newArticle(articleDto));
+    }
+
+    @Override
+    public List<Article> saveNewArticles(List<Article> articles) {
+        saveBodies(articles);
+        return articleRepository.saveAll(articles);
+    }
+
+    @Override
+    public Article newArticle(ArticleRequestDto articleDto) {
 
         String publicId = Helper.generateOrRetrievePublicId(articleDto.getPublicId());
 
@@ -41,23 +98,66 @@ public class ArticleServiceImpl implements ArticleService {
 
         ArticleValidationException.validateArticle(article);
 
-        return articleRepository.save(article);
+        return article;
     }
 
     @Override
     public Article getArticleByPublicIdAndVersion(String publicId, Integer version) {
-        return articleRepository.findByPublicIdAndVersion(publicId, version)
-                .orElseThrow(() -> new ResourceNotFoundException("Article not found with publicId: " + publicId));
+        return articleReadCache.getVersion(publicId, version, () -> articleRepository.findByPublicIdAndVersion(publicId, version)
+                .or(() -> archivedArticleRepository.findFirstByPublicIdAndVersionOrderByIdDesc(publicId, version).map(ArchivedArticle::toArticle))
+                .orElseThrow(() -> new ResourceNotFoundException("Article not found with publicId: " + publicId)));
     }
 
     @Override
-    public List<Article> getArticlesByStatus() {
+    public List<ArticleSummary> getArticlesByStatus() {
         return articleRepository.findAllByStatus(Article.ArticleStatus.SUBMITTED);
     }
 
     @Override
-    public List<Article> getApprovedArticles() {
-        return articleRepository.findAllByStatus(Article.ArticleStatus.APPROVED);
+    public List<ArticleSummary> getApprovedArticles() {
+        return articleRepository.findAllLatestApproved();
+    }
+
+    @Override
+    public ArticlePage getArticlePageByStatus(Article.ArticleStatus status, String cursor, Integer size) {
+        ArticleValidationException.validateApprovalStatus(status);
+        int pageSize = Helper.resolvePageSize(size);
+        Pageable pageable = PageRequest.ofSize(pageSize + 1);
+
+        List<ArticleSummary> articles;
+        if (cursor == null || cursor.isBlank()) {
+            articles = articleRepository.findPageByStatus(status, pageable);
+        } else {
+            ArticleCursor articleCursor = ArticleCursor.decode(cursor);
+            articles = articleRepository.findPageByStatusAfter(status, articleCursor.getCreatedAt(), articleCursor.getId(), pageable);
+        }
+
+        if (articles.size() <= pageSize) {
+            return new ArticlePage(articles, null);
+        }
+        List<ArticleSummary> page = articles.subList(0, pageSize);
+        return new ArticlePage(page, ArticleCursor.of(page.get(pageSize - 1)).encode());
+    }
+
+    private Article save(Article article) {
+        saveBodies(List.of(article));
+        return articleRepository.save(article);
+    }
+
+    private void saveBodies(List<Article> articles) {
+        Map<String, String> pendingBodies = new LinkedHashMap<>();
+        for (Article article : articles) {
+            if (article.getPendingContent() != null) {
+                pendingBodies.putIfAbsent(article.getContentHash(), article.getPendingContent());
+            }
+        }
+        if (pendingBodies.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        articleBodyRepository.touch(pendingBodies.keySet(), now);
+        articleBodyRepository.insertIfAbsent(pendingBodies, now);
     }
 
     @Override
@@ -65,6 +165,7 @@ public class ArticleServiceImpl implements ArticleService {
 
         ArticleValidationException.validateId(publicId);
         ArticleValidationException.validateArticleRequestDto(articleDto);
+        eventPublisher.publishEvent(new ArticleChangedEvent(List.of(publicId)));
 
         if (articleDto.getStatus() == Article.ArticleStatus.APPROVED) {
             Article article = Article.builder()
@@ -84,7 +185,7 @@ public class ArticleServiceImpl implements ArticleService {
             Article articleWithStatusApproved = articleRepository.findByPublicIdAndStatusAndIsEditableTrue(publicId, Article.ArticleStatus.APPROVED);
             articleWithStatusApproved.setIsEditable(false);
 
-            return articleRepository.save(article);
+            return save(article);
 
         } else if (articleDto.getStatus() == Article.ArticleStatus.EDITING) {
 
@@ -98,7 +199,7 @@ public class ArticleServiceImpl implements ArticleService {
             existingArticle.setIsEditable(isEditable);
             existingArticle.setIsSubmitted(false);
 
-            return articleRepository.save(existingArticle);
+            return save(existingArticle);
         } else {
 
             Article existingArticle = articleRepository.findByPublicIdAndVersion(publicId, version)
@@ -112,7 +213,7 @@ public class ArticleServiceImpl implements ArticleService {
             existingArticle.setVersion(version);
             existingArticle.setIsEditable(isEditable);
             existingArticle.setIsSubmitted(true);
-            return articleRepository.save(existingArticle);
+            return save(existingArticle);
 
         }
     }
@@ -121,44 +222,130 @@ public class ArticleServiceImpl implements ArticleService {
     public Article approveArticle(String publicId, ArticleRequestDto articleRequestDto) {
         ArticleValidationException.validateArticleRequestDto(articleRequestDto);
 
-        Article existingArticle = articleRepository.findByPublicIdAndStatus(publicId, Article.ArticleStatus.SUBMITTED);
+        Article existingArticle = findForTransition(publicId, Article.ArticleStatus.SUBMITTED);
+        Article previousApproved = articleRepository.findLatestApprovedArticleByPublicId(publicId).orElse(null);
+
+        Article approved = existingArticle.toBuilder()
+                .version(articleRequestDto.getVersion() + 1)
+                .status(Article.ArticleStatus.APPROVED)
+                .title(articleRequestDto.getTitle())
+                .description(articleRequestDto.getDescription())
+                .content(articleRequestDto.getContent())
+                .editedBy(articleRequestDto.getEditedBy())
+                .isEditable(true)
+                .isSubmitted(false)
+                .build();
+
+        Article approvedArticle = transition(existingArticle, approved, articleRequestDto.getRowVersion());
+        articleHeadRepository.save(new ArticleHead(publicId, approvedArticle.getId(), approvedArticle.getVersion()));
+        articleDeltaStorage.storePreviousAsDelta(previousApproved, approvedArticle);
+        eventPublisher.publishEvent(new ArticleApprovedEvent(List.of(publicId)));
+        return approvedArticle;
+    }
 
-        Integer newVersion = articleRequestDto.getVersion() + 1;
+    @Override
+    public ArticleBulkReviewReport approveArticles(List<ArticleReviewItem> items) {
+        Map<Long, ArticleReviewItem> submitted = lockSubmitted(items);
+        if (submitted.isEmpty()) {
+            return report(items, submitted);
+        }
 
-        existingArticle.setVersion(newVersion);
-        existingArticle.setStatus(Article.ArticleStatus.APPROVED);
-        existingArticle.setTitle(articleRequestDto.getTitle());
-        existingArticle.setDescription(articleRequestDto.getDescription());
-        existingArticle.setContent(articleRequestDto.getContent());
-        existingArticle.setEditedBy(articleRequestDto.getEditedBy());
-        existingArticle.setIsEditable(true);
-        existingArticle.setIsSubmitted(false);
-        articleRepository.save(existingArticle);
+        List<String> publicIds = submitted.values().stream().map(ArticleReviewItem::getPublicId).toList();
+        List<Long> previousApprovedIds = articleDeltaStorage.isEnabled()
+                ? articleHeadRepository.findAllById(publicIds).stream().map(ArticleHead::getApprovedArticleId).toList()
+                : List.of();
+
+        articleRepository.approveSubmitted(submitted.keySet());
+        articleHeadRepository.moveToArticles(submitted.keySet());
+        articleHeadRepository.insertForArticles(submitted.keySet());
+
+        if (!previousApprovedIds.isEmpty()) {
+            Map<String, Article> approvedByPublicId = articleRepository.findAllById(submitted.keySet()).stream()
+                    .collect(Collectors.toMap(Article::getPublicId, Function.identity()));
+            for (Article previous : articleRepository.findAllById(previousApprovedIds)) {
+                articleDeltaStorage.storePreviousAsDelta(previous, approvedByPublicId.get(previous.getPublicId()));
+            }
+        }
+        eventPublisher.publishEvent(new ArticleApprovedEvent(publicIds));
+        return report(items, submitted);
+    }
 
-        return articleRepository.save(existingArticle);
+    @Override
+    public ArticleBulkReviewReport declineArticles(List<ArticleReviewItem> items, String denyText) {
+        Map<Long, ArticleReviewItem> submitted = lockSubmitted(items);
+        if (!submitted.isEmpty()) {
+            articleRepository.declineSubmitted(submitted.keySet(), denyText);
+            eventPublisher.publishEvent(new ArticleChangedEvent(submitted.values().stream().map(ArticleReviewItem::getPublicId).toList()));
+        }
+        return report(items, submitted);
+    }
+
+    private Map<Long, ArticleReviewItem> lockSubmitted(List<ArticleReviewItem> items) {
+        items.forEach(item -> ArticleValidationException.validateId(item.getPublicId()));
+        Map<String, ArticleReviewItem> itemsByPublicId = new LinkedHashMap<>();
+        items.forEach(item -> itemsByPublicId.putIfAbsent(item.getPublicId(), item));
+
+        Map<Long, ArticleReviewItem> submitted = new LinkedHashMap<>();
+        for (Article article : articleRepository.findAndLockByStatusAndPublicIdIn(Article.ArticleStatus.SUBMITTED, itemsByPublicId.keySet())) {
+            ArticleReviewItem item = itemsByPublicId.get(article.getPublicId());
+            if (item != null && Objects.equals(item.getVersion(), article.getVersion())) {
+                submitted.put(article.getId(), itemsByPublicId.remove(article.getPublicId()));
+            }
+        }
+        return submitted;
+    }
+
+    private static ArticleBulkReviewReport report(List<ArticleReviewItem> items, Map<Long, ArticleReviewItem> submitted) {
+        Set<ArticleReviewItem> succeeded = Collections.newSetFromMap(new IdentityHashMap<>());
+        succeeded.addAll(submitted.values());
+        return new ArticleBulkReviewReport(
+                items.stream().filter(succeeded::contains).toList(),
+                items.stream().filter(item -> !succeeded.contains(item)).toList());
     }
 
     @Override
     public Article setSubmitStatus(ArticleRequestDto articleDto) {
 
-        Article existingArticle = articleRepository.findByPublicIdAndStatus(articleDto.getPublicId(), Article.ArticleStatus.EDITING);
+        Article existingArticle = findForTransition(articleDto.getPublicId(), Article.ArticleStatus.EDITING);
+
+        Article submitted = existingArticle.toBuilder()
+                .title(articleDto.getTitle())
+                .description(articleDto.getDescription())
+                .content(articleDto.getContent())
+                .status(Article.ArticleStatus.SUBMITTED)
+                .editedBy(articleDto.getEditedBy())
+                .version(articleDto.getVersion())
+                .isEditable(false)
+                .isSubmitted(true)
+                .build();
+
+        ArticleValidationException.validateArticle(submitted);
 
-        existingArticle.setTitle(articleDto.getTitle());
-        existingArticle.setDescription(articleDto.getDescription());
-        existingArticle.setContent(articleDto.getContent());
-        existingArticle.setStatus(Article.ArticleStatus.SUBMITTED);
-        existingArticle.setEditedBy(articleDto.getEditedBy());
-        existingArticle.setVersion(articleDto.getVersion());
-        existingArticle.setIsEditable(false);
-        existingArticle.setIsSubmitted(true);
+        Article submittedArticle = transition(existingArticle, submitted, articleDto.getRowVersion());
+        eventPublisher.publishEvent(new ArticleChangedEvent(List.of(submittedArticle.getPublicId())));
+        return submittedArticle;
+    }
 
-        ArticleValidationException.validateArticle(existingArticle);
+    private Article findForTransition(String publicId, Article.ArticleStatus status) {
+        Article article = articleRepository.findByPublicIdAndStatus(publicId, status);
+        if (article == null) {
+            throw new ArticleConflictException("No " + status.name().toLowerCase() + " article found with publicId: " + publicId);
+        }
+        return article;
+    }
 
-        return articleRepository.save(existingArticle);
+    private Article transition(Article current, Article next, Long expectedRowVersion) {
+        saveBodies(List.of(next));
+        Long rowVersion = expectedRowVersion == null ? current.getRowVersion() : expectedRowVersion;
+        if (articleRepository.compareAndSet(next, current.getStatus(), rowVersion) == 0) {
+            throw new ArticleConflictException("Article with publicId " + current.getPublicId() + " was changed concurrently");
+        }
+        return articleRepository.findById(current.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Article not found with publicId: " + current.getPublicId()));
     }
 
     @Override
-    public List<Article> getArticlesByUserAndStatus(String username, Article.ArticleStatus status) {
+    public List<ArticleSummary> getArticlesByUserAndStatus(String username, Article.ArticleStatus status) {
         return articleRepository.findByEditedByAndStatus(username, status);
     }
 
@@ -172,8 +359,8 @@ public class ArticleServiceImpl implements ArticleService {
     @Override
     public Article getApprovedArticleByPublicIdAndLastVersion(String publicId) {
         ArticleValidationException.validateId(publicId);
-        return articleRepository.findLatestApprovedArticleByPublicId(publicId)
-                .orElseThrow(() -> new ResourceNotFoundException("No approved article found with publicId: " + publicId));
+        return articleReadCache.getLatestApproved(publicId, () -> articleRepository.findLatestApprovedArticleByPublicId(publicId)
+                .orElseThrow(() -> new ResourceNotFoundException("No approved article found with publicId: " + publicId)));
     }
 
     @Override
@@ -183,9 +370,19 @@ public class ArticleServiceImpl implements ArticleService {
     }
 
     @Override
-    public List<Article> getAllApprovedArticlesByPublicId(String publicId, Article.ArticleStatus status) {
+    public List<ArticleSummary> getAllApprovedArticlesByPublicId(String publicId, Article.ArticleStatus status) {
         ArticleValidationException.validateId(publicId);
-        return articleRepository.findAllApprovedArticlesByPublicId(publicId, status);
+        List<ArticleSummary> articles = articleRepository.findAllApprovedArticlesByPublicId(publicId, status);
+        if (status != Article.ArticleStatus.APPROVED) {
+            return articles;
+        }
+        List<ArticleSummary> archived = archivedArticleRepository.findSummariesByPublicId(publicId);
+        if (archived.isEmpty()) {
+            return articles;
+        }
+        List<ArticleSummary> combined = new ArrayList<>(archived);
+        combined.addAll(articles);
+        return combined;
     }
 
     @Override
@@ -198,17 +395,21 @@ public class ArticleServiceImpl implements ArticleService {
     @Override
     public Article declineArticleByPublicIdAndStatus(String publicId, Article.ArticleStatus status, String denyText) {
         ArticleValidationException.validateId(publicId);
-        Article articleWithStatusSubmitted = articleRepository.findByPublicIdAndStatus(publicId, status);
+        Article articleWithStatusSubmitted = findForTransition(publicId, status);
 
-        articleWithStatusSubmitted.setStatus(Article.ArticleStatus.EDITING);
-        articleWithStatusSubmitted.setIsSubmitted(false);
-        articleWithStatusSubmitted.setDenyText(denyText);
+        Article declined = articleWithStatusSubmitted.toBuilder()
+                .status(Article.ArticleStatus.EDITING)
+                .isSubmitted(false)
+                .denyText(denyText)
+                .build();
 
-        return articleRepository.save(articleWithStatusSubmitted);
+        Article declinedArticle = transition(articleWithStatusSubmitted, declined, null);
+        eventPublisher.publishEvent(new ArticleChangedEvent(List.of(publicId)));
+        return declinedArticle;
     }
 
     @Override
-    public Article getEditedByWithStatusEditingAndVersion(String publicId) {
+    public ArticleEditorAndVersion getEditedByWithStatusEditingAndVersion(String publicId) {
         ArticleValidationException.validateId(publicId);
         return articleRepository.getEditedByWithStatusEditingAndVersion(publicId);
     }
@@ -0,0 +1,86 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.exception.ArticleValidationException;
+import com.example.unternehmenshandbuch.persistence.ArticleRepository;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleTitle;
+import com.example.unternehmenshandbuch.service.search.TitleDictionary;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+public class ArticleTypeaheadService {
+
+    static final int DEFAULT_LIMIT = 10;
+
+    static final int MAX_LIMIT = 50;
+
+    private final ArticleRepository articleRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicReference<TitleDictionary> dictionary = new AtomicReference<>(TitleDictionary.EMPTY);
+
+    public ArticleTypeaheadService(ArticleRepository articleRepository, PlatformTransactionManager transactionManager) {
+        this.articleRepository = articleRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildDictionary() {
+        List<ArticleTitle> titles = transactionTemplate.execute(status -> articleRepository.findAllLatestApprovedTitles());
+        TitleDictionary built = TitleDictionary.of(titles);
+        dictionary.updateAndGet(current -> built.withTitles(current.entries()));
+    }
+
+    public void rebuildDictionary() {
+        while (true) {
+            TitleDictionary before = dictionary.get();
+            List<ArticleTitle> titles = transactionTemplate.execute(status -> articleRepository.findAllLatestApprovedTitles());
+            if (dictionary.compareAndSet(before, TitleDictionary.of(titles))) {
+                return;
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onArticleApproved(ArticleApprovedEvent event) {
+        refresh(event.publicIds());
+    }
+
+    public void refresh(Collection<String> publicIds) {
+        List<ArticleTitle> changed = transactionTemplate.execute(status -> articleRepository.findLatestApprovedTitlesByPublicIdIn(publicIds));
+        dictionary.updateAndGet(current -> current.withTitles(changed));
+    }
+
+    public List<ArticleTitle> suggest(String prefix, Integer limit) {
+        int resolvedLimit = resolveLimit(limit);
+        if (prefix == null || prefix.isBlank() || prefix.length() > ArticleValidationException.MAX_SEARCH_QUERY_LENGTH) {
+            return List.of();
+        }
+        return dictionary.get().suggest(prefix.stripLeading(), resolvedLimit);
+    }
+
+    TitleDictionary getDictionary() {
+        return dictionary.get();
+    }
+
+    private static int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new ArticleValidationException("Limit must be at least 1");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+}
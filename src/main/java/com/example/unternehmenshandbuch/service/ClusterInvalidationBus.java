@@ -0,0 +1,258 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class ClusterInvalidationBus implements SmartLifecycle {
+
+    static final String CHANNEL = "handbook_invalidation";
+
+    static final int MAX_KEYS_PER_NOTIFICATION = 100;
+
+    private static final String NOTIFY = "SELECT pg_notify('" + CHANNEL + "', nextval('cache_invalidation_seq') || ' ' || :payload)";
+
+    static final String CURRENT_STAMP = "SELECT CASE WHEN is_called THEN last_value ELSE 0 END FROM cache_invalidation_seq";
+
+    private final boolean enabled;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final DataSourceProperties dataSourceProperties;
+
+    private final ArticleReadCache articleReadCache;
+
+    private final UserDetailsCache userDetailsCache;
+
+    private final TokenVersionService tokenVersionService;
+
+    private final ArticleTypeaheadService articleTypeaheadService;
+
+    private final ObjectProvider<EmbeddedArticleSearchService> embeddedArticleSearchService;
+
+    private final Duration pollTimeout;
+
+    private final Duration reconnectDelay;
+
+    private final String origin = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+
+    private Thread listener;
+
+    private long lastStamp = -1;
+
+    public ClusterInvalidationBus(@Value("${handbook.cache.invalidation.enabled:false}") boolean enabled,
+                                  NamedParameterJdbcTemplate jdbcTemplate, ObjectMapper objectMapper, DataSourceProperties dataSourceProperties,
+                                  ArticleReadCache articleReadCache, UserDetailsCache userDetailsCache, TokenVersionService tokenVersionService,
+                                  ArticleTypeaheadService articleTypeaheadService,
+                                  ObjectProvider<EmbeddedArticleSearchService> embeddedArticleSearchService,
+                                  @Value("${handbook.cache.invalidation.poll-timeout:PT10S}") Duration pollTimeout,
+                                  @Value("${handbook.cache.invalidation.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        this.enabled = enabled;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.dataSourceProperties = dataSourceProperties;
+        this.articleReadCache = articleReadCache;
+        this.userDetailsCache = userDetailsCache;
+        this.tokenVersionService = tokenVersionService;
+        this.articleTypeaheadService = articleTypeaheadService;
+        this.embeddedArticleSearchService = embeddedArticleSearchService;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onArticleApproved(ArticleApprovedEvent event) {
+        publish(Message.Type.ARTICLE, event.publicIds(), null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        publish(Message.Type.ARTICLE, event.publicIds(), null);
+    }
+
+    @EventListener
+    public void onUserTokensRevoked(UserTokensRevokedEvent event) {
+        publish(Message.Type.USER, List.of(event.username()), event.tokenVersion());
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+            try {
+                listener.join(pollTimeout.toMillis() + 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void onConnected(long currentStamp) {
+        if (lastStamp >= 0 && currentStamp > lastStamp) {
+            flush();
+        }
+        lastStamp = Math.max(lastStamp, currentStamp);
+    }
+
+    void onNotification(String notification) {
+        int separator = notification.indexOf(' ');
+        long stamp;
+        Message message;
+        try {
+            stamp = Long.parseLong(notification.substring(0, Math.max(separator, 0)));
+            message = objectMapper.readValue(notification.substring(separator + 1), Message.class);
+        } catch (NumberFormatException | JsonProcessingException e) {
+            log.warn("Unreadable cache invalidation notification, flushing local caches", e);
+            flush();
+            return;
+        }
+        if (message.type() == null || message.keys() == null) {
+            log.warn("Incomplete cache invalidation notification {}, flushing local caches", stamp);
+            flush();
+        } else if (!origin.equals(message.origin())) {
+            apply(message);
+        }
+        lastStamp = Math.max(lastStamp, stamp);
+    }
+
+    private void apply(Message message) {
+        switch (message.type()) {
+            case ARTICLE -> {
+                articleReadCache.invalidate(message.keys());
+                articleTypeaheadService.refresh(message.keys());
+                embeddedArticleSearchService.ifAvailable(searchService -> searchService.refresh(message.keys()));
+            }
+            case USER -> message.keys().forEach(username -> {
+                userDetailsCache.invalidate(username);
+                if (message.tokenVersion() != null) {
+                    tokenVersionService.advance(username, message.tokenVersion());
+                }
+            });
+        }
+    }
+
+    private void flush() {
+        articleReadCache.invalidateAll();
+        userDetailsCache.invalidateAll();
+        tokenVersionService.refresh();
+        articleTypeaheadService.rebuildDictionary();
+        embeddedArticleSearchService.ifAvailable(EmbeddedArticleSearchService::buildIndex);
+    }
+
+    private void publish(Message.Type type, Collection<String> keys, Integer tokenVersion) {
+        if (!enabled || keys.isEmpty()) {
+            return;
+        }
+        List<String> pending = new ArrayList<>(keys);
+        for (int from = 0; from < pending.size(); from += MAX_KEYS_PER_NOTIFICATION) {
+            List<String> chunk = pending.subList(from, Math.min(from + MAX_KEYS_PER_NOTIFICATION, pending.size()));
+            String payload;
+            try {
+                payload = objectMapper.writeValueAsString(new Message(origin, type, List.copyOf(chunk), tokenVersion));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+            jdbcTemplate.query(NOTIFY, Map.of("payload", payload), (ResultSet rs) -> {
+            });
+        }
+    }
+
+    private void listen() {
+        try {
+            listenUntilStopped();
+        } finally {
+            running = false;
+        }
+    }
+
+    private void listenUntilStopped() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                    try (ResultSet rs = statement.executeQuery(CURRENT_STAMP)) {
+                        rs.next();
+                        onConnected(rs.getLong(1));
+                    }
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            onNotification(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (running) {
+                    log.warn("Cache invalidation listener failed, reconnecting in {}", reconnectDelay, e);
+                    pause();
+                }
+            }
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(reconnectDelay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    record Message(String origin, Type type, List<String> keys, Integer tokenVersion) {
+
+        enum Type {
+            ARTICLE, USER
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.exception.ArticleValidationException;
+import com.example.unternehmenshandbuch.helper.Helper;
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.persistence.ArticleRepository;
+import com.example.unternehmenshandbuch.service.dto.ArticleSearchHit;
+import com.example.unternehmenshandbuch.service.dto.ArticleSearchPage;
+import com.example.unternehmenshandbuch.service.search.InvertedIndex;
+import com.example.unternehmenshandbuch.service.search.SearchDocument;
+import com.example.unternehmenshandbuch.service.search.SearchResult;
+import com.example.unternehmenshandbuch.service.search.Tokenizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Service
+@ConditionalOnProperty(name = "handbook.search.engine", havingValue = "embedded")
+public class EmbeddedArticleSearchService implements ArticleSearchService {
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    private final ArticleRepository articleRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    public EmbeddedArticleSearchService(ArticleRepository articleRepository, PlatformTransactionManager transactionManager,
+                                        @Value("${handbook.search.embedded.batch-size:1000}") int batchSize) {
+        this.articleRepository = articleRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Article> batch = transactionTemplate.execute(status -> {
+                List<Article> articles = articleRepository.findLatestApprovedWithBodyAfter(afterId, PageRequest.ofSize(batchSize));
+                articles.forEach(this::index);
+                return articles;
+            });
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        index.trim();
+    }
+
+    @TransactionalEventListener
+    public void onArticleApproved(ArticleApprovedEvent event) {
+        refresh(event.publicIds());
+    }
+
+    public void refresh(Collection<String> publicIds) {
+        transactionTemplate.executeWithoutResult(status ->
+                articleRepository.findLatestApprovedWithBodyByPublicIdIn(publicIds).forEach(this::index));
+    }
+
+    @Override
+    public ArticleSearchPage search(String query, Integer page, Integer size) {
+        ArticleValidationException.validateSearchQuery(query);
+        int pageNumber = page == null ? 0 : page;
+        if (pageNumber < 0) {
+            throw new ArticleValidationException("Page must not be negative");
+        }
+        int pageSize = Helper.resolvePageSize(size);
+
+        long offset = (long) pageNumber * pageSize;
+        if (offset >= index.size()) {
+            return new ArticleSearchPage(List.of(), pageNumber, pageSize, false);
+        }
+
+        List<SearchResult> results = index.search(query, (int) offset, pageSize + 1);
+        Set<String> terms = new HashSet<>(Tokenizer.tokenize(query));
+        List<ArticleSearchHit> hits = results.stream()
+                .limit(pageSize)
+                .map(result -> ArticleSearchHit.builder()
+                        .id(result.articleId())
+                        .publicId(result.publicId())
+                        .version(result.version())
+                        .title(result.title())
+                        .description(result.description())
+                        .snippet(highlight(result.description(), terms))
+                        .score(result.score())
+                        .build())
+                .toList();
+        return new ArticleSearchPage(hits, pageNumber, pageSize, results.size() > pageSize);
+    }
+
+    InvertedIndex getIndex() {
+        return index;
+    }
+
+    private void index(Article article) {
+        index.upsert(new SearchDocument(article.getId(), article.getPublicId(), article.getVersion(),
+                article.getTitle(), article.getDescription(), article.getContent()));
+    }
+
+    private static String highlight(String text, Set<String> terms) {
+        if (text == null) {
+            return null;
+        }
+        Matcher matcher = WORD.matcher(text);
+        StringBuilder snippet = new StringBuilder();
+        int end = 0;
+        while (matcher.find()) {
+            snippet.append(HtmlUtils.htmlEscape(text.substring(end, matcher.start())));
+            String word = HtmlUtils.htmlEscape(matcher.group());
+            snippet.append(terms.contains(matcher.group().toLowerCase(Locale.ROOT)) ? "<mark>" + word + "</mark>" : word);
+            end = matcher.end();
+        }
+        return snippet.append(HtmlUtils.htmlEscape(text.substring(end))).toString();
+    }
+}
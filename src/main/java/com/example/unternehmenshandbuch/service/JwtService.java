@@ -1,13 +1,23 @@
 package com.example.unternehmenshandbuch.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
@@ -18,42 +28,92 @@ public class JwtService {
 
 	private static final String SECRET = "AB8C7791F32DACCD488440C0F46F4FF81ACE98F82D91B210550A33DF5C8E593D25441CF04EE6A4280A8D40815DFE906D568D33850DC81AFBD01C6C3ABD8271F6";
 
+	static final String TOKEN_VERSION_CLAIM = "tv";
+
 	private static final long EXPIRATION_TIME = TimeUnit.MINUTES.toMillis(120);
 
+	private final SecretKey key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+
+	private final JwtParser parser = Jwts.parser().verifyWith(key).build();
+
+	private final Cache<String, VerifiedToken> verifiedTokens;
+
+	public JwtService(@Value("${handbook.jwt.verified-cache.maximum-size:10000}") long verifiedCacheSize) {
+		this.verifiedTokens = Caffeine.newBuilder()
+				.maximumSize(verifiedCacheSize)
+				.expireAfter(new UntilTokenExpiry())
+				.executor(Runnable::run)
+				.build();
+	}
+
 	public String generateToken(UserDetails userDetails) {
 		Map<String, Object> claims = new HashMap<>();
 		claims.put("role", userDetails.getAuthorities().stream()
 				.map(GrantedAuthority::getAuthority)
 				.collect(Collectors.joining(",")));
+		claims.put(TOKEN_VERSION_CLAIM, userDetails instanceof AppUserDetails appUser ? appUser.getTokenVersion() : 0);
 		return Jwts.builder()
 				.claims(claims)
 				.subject(userDetails.getUsername())
 				.issuedAt(Date.from(Instant.now()))
 				.expiration(Date.from(Instant.now().plusMillis(EXPIRATION_TIME)))
-				.signWith(generateKey())
+				.signWith(key)
 				.compact();
 	}
 
-	private SecretKey generateKey() {
-		byte[] decodedKey = Base64.getDecoder().decode(SECRET);
-		return Keys.hmacShaKeyFor(decodedKey);
+	public VerifiedToken verify(String jwt) {
+		String digest = digest(jwt);
+		VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+		if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+			return cached;
+		}
+		VerifiedToken verified = toVerifiedToken(parser.parseSignedClaims(jwt).getPayload());
+		verifiedTokens.put(digest, verified);
+		return verified;
 	}
 
 	public String extractUsername(String jwt) {
-		Claims claims = getClaims(jwt);
-		return claims.getSubject();
+		return verify(jwt).username();
 	}
 
-	private Claims getClaims(String jwt) {
-		return Jwts.parser()
-				.verifyWith(generateKey())
-				.build()
-				.parseSignedClaims(jwt)
-				.getPayload();
+	public boolean isTokenValid(String jwt) {
+		return verify(jwt).expiresAt().isAfter(Instant.now());
 	}
 
-	public boolean isTokenValid(String jwt) {
-		Claims claims = getClaims(jwt);
-		return claims.getExpiration().after(Date.from(Instant.now()));
+	private static VerifiedToken toVerifiedToken(Claims claims) {
+		if (claims.getExpiration() == null) {
+			throw new MalformedJwtException("JWT has no expiration");
+		}
+		String role = claims.get("role", String.class);
+		List<String> roles = role == null || role.isEmpty() ? List.of() : List.of(role.split(","));
+		Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+		return new VerifiedToken(claims.getSubject(), roles, tokenVersion == null ? 0 : tokenVersion, claims.getExpiration().toInstant());
+	}
+
+	private static String digest(String jwt) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(jwt.getBytes(StandardCharsets.US_ASCII));
+			return Base64.getEncoder().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+		@Override
+		public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+			return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+			return expireAfterCreate(digest, token, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
 	}
 }
@@ -0,0 +1,82 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.exception.ArticleValidationException;
+import com.example.unternehmenshandbuch.helper.Helper;
+import com.example.unternehmenshandbuch.service.dto.ArticleSearchHit;
+import com.example.unternehmenshandbuch.service.dto.ArticleSearchPage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+
+@Service
+@ConditionalOnProperty(name = "handbook.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresArticleSearchService implements ArticleSearchService {
+
+    private static final String START_SEL = "\u0002";
+
+    private static final String STOP_SEL = "\u0003";
+
+    private static final String HEADLINE_OPTIONS = "StartSel=" + START_SEL + ", StopSel=" + STOP_SEL + ", MaxFragments=2, MaxWords=30, MinWords=10";
+
+    private static final String SEARCH = """
+            WITH q AS (SELECT websearch_to_tsquery('german', :query) AS query),
+            hits AS (
+                SELECT s.article_id, s.public_id, s.version, s.title, s.description, s.content,
+                       ts_rank_cd(s.document, q.query) AS score
+                FROM article_search s, q
+                WHERE s.document @@ q.query
+                ORDER BY score DESC, s.public_id
+                LIMIT :limit OFFSET :offset
+            )
+            SELECT h.article_id, h.public_id, h.version, h.title, h.description, h.score,
+                   ts_headline('german', translate(h.content, :selectors, ''), q.query, :headlineOptions) AS snippet
+            FROM hits h, q
+            ORDER BY h.score DESC, h.public_id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public PostgresArticleSearchService(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public ArticleSearchPage search(String query, Integer page, Integer size) {
+        ArticleValidationException.validateSearchQuery(query);
+        int pageNumber = page == null ? 0 : page;
+        if (pageNumber < 0) {
+            throw new ArticleValidationException("Page must not be negative");
+        }
+        int pageSize = Helper.resolvePageSize(size);
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("limit", pageSize + 1)
+                .addValue("offset", (long) pageNumber * pageSize)
+                .addValue("selectors", START_SEL + STOP_SEL)
+                .addValue("headlineOptions", HEADLINE_OPTIONS);
+        List<ArticleSearchHit> hits = jdbcTemplate.query(SEARCH, parameters, (rs, rowNum) -> ArticleSearchHit.builder()
+                .id(rs.getLong("article_id"))
+                .publicId(rs.getString("public_id"))
+                .version(rs.getInt("version"))
+                .title(rs.getString("title"))
+                .description(rs.getString("description"))
+                .snippet(toHtml(rs.getString("snippet")))
+                .score(rs.getDouble("score"))
+                .build());
+
+        boolean hasNext = hits.size() > pageSize;
+        return new ArticleSearchPage(hasNext ? hits.subList(0, pageSize) : hits, pageNumber, pageSize, hasNext);
+    }
+
+    static String toHtml(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(headline).replace(START_SEL, "<mark>").replace(STOP_SEL, "</mark>");
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.exception.ResourceNotFoundException;
+import com.example.unternehmenshandbuch.persistence.AppUserRepository;
+import com.example.unternehmenshandbuch.persistence.projection.UserTokenVersion;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class TokenVersionService {
+
+    private final AppUserRepository repository;
+
+    private final UserDetailsCache userDetailsCache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<String, Integer> currentVersions = new ConcurrentHashMap<>();
+
+    public TokenVersionService(AppUserRepository repository, UserDetailsCache userDetailsCache, ApplicationEventPublisher eventPublisher) {
+        this.repository = repository;
+        this.userDetailsCache = userDetailsCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public boolean isCurrent(String username, int tokenVersion) {
+        return tokenVersion >= currentVersions.getOrDefault(username, 0);
+    }
+
+    public int revoke(String username) {
+        if (repository.incrementTokenVersion(username) == 0) {
+            throw new ResourceNotFoundException("Username: " + username + " not found");
+        }
+        int tokenVersion = repository.findTokenVersionByUsername(username)
+                .map(UserTokenVersion::tokenVersion)
+                .orElseThrow(() -> new ResourceNotFoundException("Username: " + username + " not found"));
+        advance(username, tokenVersion);
+        userDetailsCache.invalidate(username);
+        eventPublisher.publishEvent(new UserTokensRevokedEvent(username, tokenVersion));
+        return tokenVersion;
+    }
+
+    @Scheduled(fixedDelayString = "${handbook.auth.token-version-refresh:PT30S}")
+    public void refresh() {
+        repository.findAllRevokedTokenVersions().forEach(version -> advance(version.username(), version.tokenVersion()));
+    }
+
+    public void advance(String username, int tokenVersion) {
+        currentVersions.merge(username, tokenVersion, Math::max);
+    }
+}
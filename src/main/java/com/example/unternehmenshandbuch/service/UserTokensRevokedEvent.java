@@ -0,0 +1,4 @@
+package com.example.unternehmenshandbuch.service;
+
+public record UserTokensRevokedEvent(String username, int tokenVersion) {
+}
@@ -0,0 +1,7 @@
+package com.example.unternehmenshandbuch.service;
+
+import java.time.Instant;
+import java.util.List;
+
+public record VerifiedToken(String username, List<String> roles, int tokenVersion, Instant expiresAt) {
+}
@@ -0,0 +1,17 @@
+package com.example.unternehmenshandbuch.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class ArticleBulkReviewReport {
+
+	private List<ArticleReviewItem> succeeded;
+
+	private List<ArticleReviewItem> notSubmitted;
+}
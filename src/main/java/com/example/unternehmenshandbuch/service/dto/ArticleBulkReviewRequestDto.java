@@ -0,0 +1,23 @@
+package com.example.unternehmenshandbuch.service.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleBulkReviewRequestDto {
+
+	@NotEmpty(message = "At least one article must be given")
+	@Size(max = 1000, message = "At most 1000 articles can be reviewed at once")
+	private List<ArticleReviewItem> items;
+
+	private String denyText;
+}
@@ -0,0 +1,40 @@
+package com.example.unternehmenshandbuch.service.dto;
+
+import com.example.unternehmenshandbuch.exception.ArticleValidationException;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleSummary;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+@Data
+@AllArgsConstructor
+public class ArticleCursor {
+
+	private static final String SEPARATOR = "|";
+
+	private Instant createdAt;
+
+	private Long id;
+
+	public static ArticleCursor of(ArticleSummary article) {
+		return new ArticleCursor(article.createdAt(), article.id());
+	}
+
+	public String encode() {
+		String raw = createdAt.toString() + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static ArticleCursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separatorIndex = raw.indexOf(SEPARATOR);
+			return new ArticleCursor(Instant.parse(raw.substring(0, separatorIndex)), Long.parseLong(raw.substring(separatorIndex + 1)));
+		} catch (RuntimeException ex) {
+			throw new ArticleValidationException("Invalid cursor: " + cursor);
+		}
+	}
+}
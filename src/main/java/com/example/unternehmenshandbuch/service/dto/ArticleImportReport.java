@@ -0,0 +1,21 @@
+package com.example.unternehmenshandbuch.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class ArticleImportReport {
+
+	private int total;
+
+	private int imported;
+
+	private int failed;
+
+	private List<ArticleImportResult> results;
+}
@@ -0,0 +1,26 @@
+package com.example.unternehmenshandbuch.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class ArticleImportResult {
+
+	public enum Status {
+		IMPORTED,
+		FAILED
+	}
+
+	private int index;
+
+	private String publicId;
+
+	private Integer version;
+
+	private Status status;
+
+	private String message;
+}
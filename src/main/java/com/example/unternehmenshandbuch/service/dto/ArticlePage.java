@@ -0,0 +1,18 @@
+package com.example.unternehmenshandbuch.service.dto;
+
+import com.example.unternehmenshandbuch.persistence.projection.ArticleSummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class ArticlePage {
+
+	private List<ArticleSummary> articles;
+
+	private String nextCursor;
+}
@@ -34,4 +34,6 @@ public class ArticleRequestDto {
 	private Boolean isEditable;
 
 	private Boolean isSubmitted;
+
+	private Long rowVersion;
 }
@@ -0,0 +1,17 @@
+package com.example.unternehmenshandbuch.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleReviewItem {
+
+	private String publicId;
+
+	private Integer version;
+}
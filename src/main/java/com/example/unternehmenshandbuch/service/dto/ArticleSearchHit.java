@@ -0,0 +1,25 @@
+package com.example.unternehmenshandbuch.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class ArticleSearchHit {
+
+    private Long id;
+
+    private String publicId;
+
+    private Integer version;
+
+    private String title;
+
+    private String description;
+
+    private String snippet;
+
+    private Double score;
+}
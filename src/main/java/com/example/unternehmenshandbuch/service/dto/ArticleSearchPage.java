@@ -0,0 +1,21 @@
+package com.example.unternehmenshandbuch.service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class ArticleSearchPage {
+
+    private List<ArticleSearchHit> hits;
+
+    private Integer page;
+
+    private Integer size;
+
+    private Boolean hasNext;
+}
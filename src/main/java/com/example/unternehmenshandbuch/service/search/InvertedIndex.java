@@ -0,0 +1,289 @@
+package com.example.unternehmenshandbuch.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class InvertedIndex {
+
+    static final float K1 = 1.2f;
+
+    static final float B = 0.75f;
+
+    static final int TITLE_WEIGHT = 3;
+
+    static final int DESCRIPTION_WEIGHT = 2;
+
+    static final int MIN_DELETED_FOR_COMPACTION = 1024;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    private final List<StoredDocument> documents = new ArrayList<>();
+
+    private final Map<String, Integer> docIdByPublicId = new HashMap<>();
+
+    private final BitSet deleted = new BitSet();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int[] lengths = new int[16];
+
+    private int deletedCount;
+
+    private long totalLength;
+
+    public boolean upsert(SearchDocument document) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        addTerms(termFrequencies, document.title(), TITLE_WEIGHT);
+        addTerms(termFrequencies, document.description(), DESCRIPTION_WEIGHT);
+        addTerms(termFrequencies, document.content(), 1);
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = docIdByPublicId.get(document.publicId());
+            if (existing != null) {
+                if (documents.get(existing).version() > document.version()) {
+                    return false;
+                }
+                delete(existing);
+            }
+
+            int docId = documents.size();
+            documents.add(new StoredDocument(document.articleId(), document.publicId(), document.version(), document.title(), document.description()));
+            if (docId == lengths.length) {
+                lengths = Arrays.copyOf(lengths, lengths.length * 2);
+            }
+            lengths[docId] = length;
+            totalLength += length;
+            docIdByPublicId.put(document.publicId(), docId);
+            termFrequencies.forEach((term, termFrequency) -> postings.computeIfAbsent(term, t -> new PostingList()).add(docId, termFrequency));
+
+            if (deletedCount >= MIN_DELETED_FOR_COMPACTION && deletedCount > liveDocuments()) {
+                compact();
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<SearchResult> search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int liveDocuments = liveDocuments();
+            if (liveDocuments == 0) {
+                return List.of();
+            }
+            float averageLength = (float) totalLength / liveDocuments;
+            float[] scores = new float[documents.size()];
+            Matches matches = new Matches();
+
+            for (String term : terms) {
+                PostingList postingList = postings.get(term);
+                if (postingList == null) {
+                    continue;
+                }
+                int documentFrequency = Math.min(postingList.size(), liveDocuments);
+                float idf = (float) Math.log(1 + (liveDocuments - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                postingList.forEach((docId, termFrequency) -> {
+                    if (deleted.get(docId)) {
+                        return;
+                    }
+                    float norm = K1 * (1 - B + B * lengths[docId] / averageLength);
+                    if (scores[docId] == 0) {
+                        matches.add(docId);
+                    }
+                    scores[docId] += idf * termFrequency * (K1 + 1) / (termFrequency + norm);
+                });
+            }
+
+            int[] top = topDocuments(scores, matches, (int) Math.min((long) offset + limit, Integer.MAX_VALUE));
+            List<SearchResult> results = new ArrayList<>(top.length);
+            for (int docId : top) {
+                StoredDocument document = documents.get(docId);
+                results.add(new SearchResult(document.articleId(), document.publicId(), document.version(), document.title(), document.description(), scores[docId]));
+            }
+            return offset >= results.size() ? List.of() : results.subList(offset, results.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocuments();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long postingBytes() {
+        lock.readLock().lock();
+        try {
+            return postings.values().stream().mapToLong(PostingList::byteSize).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void trim() {
+        lock.writeLock().lock();
+        try {
+            postings.values().forEach(PostingList::trim);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int liveDocuments() {
+        return documents.size() - deletedCount;
+    }
+
+    private void delete(int docId) {
+        deleted.set(docId);
+        deletedCount++;
+        totalLength -= lengths[docId];
+    }
+
+    private void compact() {
+        int[] remap = new int[documents.size()];
+        List<StoredDocument> retained = new ArrayList<>(liveDocuments());
+        int[] retainedLengths = new int[Math.max(16, liveDocuments())];
+        for (int docId = 0; docId < documents.size(); docId++) {
+            if (deleted.get(docId)) {
+                remap[docId] = -1;
+            } else {
+                remap[docId] = retained.size();
+                retainedLengths[retained.size()] = lengths[docId];
+                retained.add(documents.get(docId));
+            }
+        }
+
+        Map<String, PostingList> compacted = new HashMap<>();
+        postings.forEach((term, postingList) -> {
+            PostingList compactedList = new PostingList();
+            postingList.forEach((docId, termFrequency) -> {
+                if (remap[docId] >= 0) {
+                    compactedList.add(remap[docId], termFrequency);
+                }
+            });
+            if (compactedList.size() > 0) {
+                compactedList.trim();
+                compacted.put(term, compactedList);
+            }
+        });
+
+        documents.clear();
+        documents.addAll(retained);
+        postings.clear();
+        postings.putAll(compacted);
+        docIdByPublicId.clear();
+        for (int docId = 0; docId < documents.size(); docId++) {
+            docIdByPublicId.put(documents.get(docId).publicId(), docId);
+        }
+        lengths = retainedLengths;
+        deleted.clear();
+        deletedCount = 0;
+    }
+
+    private static int[] topDocuments(float[] scores, Matches matches, int wanted) {
+        int[] heap = new int[Math.min(wanted, matches.size)];
+        int heapSize = 0;
+        for (int i = 0; i < matches.size; i++) {
+            int docId = matches.docIds[i];
+            if (heapSize < heap.length) {
+                heap[heapSize++] = docId;
+                siftUp(heap, heapSize - 1, scores);
+            } else if (heap.length > 0 && ranksBefore(docId, heap[0], scores)) {
+                heap[0] = docId;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+
+        int[] ranked = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            ranked[i] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, scores);
+        }
+        return ranked;
+    }
+
+    private static void siftUp(int[] heap, int index, float[] scores) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!ranksBefore(heap[parent], heap[index], scores)) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int heapSize, float[] scores) {
+        int index = 0;
+        while (true) {
+            int worst = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < heapSize && ranksBefore(heap[worst], heap[left], scores)) {
+                worst = left;
+            }
+            if (right < heapSize && ranksBefore(heap[worst], heap[right], scores)) {
+                worst = right;
+            }
+            if (worst == index) {
+                return;
+            }
+            swap(heap, index, worst);
+            index = worst;
+        }
+    }
+
+    private static boolean ranksBefore(int docId, int otherDocId, float[] scores) {
+        return scores[docId] > scores[otherDocId] || (scores[docId] == scores[otherDocId] && docId < otherDocId);
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int docId = heap[i];
+        heap[i] = heap[j];
+        heap[j] = docId;
+    }
+
+    private static void addTerms(Map<String, Integer> termFrequencies, String text, int weight) {
+        for (String token : Tokenizer.tokenize(text)) {
+            termFrequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private record StoredDocument(long articleId, String publicId, int version, String title, String description) {
+    }
+
+    private static final class Matches {
+
+        private int[] docIds = new int[16];
+
+        private int size;
+
+        void add(int docId) {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+            }
+            docIds[size++] = docId;
+        }
+    }
+}
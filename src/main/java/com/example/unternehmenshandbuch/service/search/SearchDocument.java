@@ -0,0 +1,4 @@
+package com.example.unternehmenshandbuch.service.search;
+
+public record SearchDocument(long articleId, String publicId, int version, String title, String description, String content) {
+}
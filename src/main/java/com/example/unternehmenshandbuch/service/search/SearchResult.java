@@ -0,0 +1,4 @@
+package com.example.unternehmenshandbuch.service.search;
+
+public record SearchResult(long articleId, String publicId, int version, String title, String description, double score) {
+}
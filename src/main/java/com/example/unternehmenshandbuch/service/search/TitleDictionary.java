@@ -0,0 +1,195 @@
+package com.example.unternehmenshandbuch.service.search;
+
+import com.example.unternehmenshandbuch.persistence.projection.ArticleTitle;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public final class TitleDictionary {
+
+    static final int BLOCK_SIZE = 16;
+
+    private static final Comparator<ArticleTitle> ORDER = Comparator
+            .comparing((ArticleTitle title) -> normalize(title.title()))
+            .thenComparing(ArticleTitle::publicId);
+
+    public static final TitleDictionary EMPTY = of(List.of());
+
+    private final byte[] titles;
+
+    private final int[] blockOffsets;
+
+    private final byte[] publicIds;
+
+    private final int[] publicIdOffsets;
+
+    private final int size;
+
+    private final int maxTitleBytes;
+
+    private TitleDictionary(byte[] titles, int[] blockOffsets, byte[] publicIds, int[] publicIdOffsets, int size, int maxTitleBytes) {
+        this.titles = titles;
+        this.blockOffsets = blockOffsets;
+        this.publicIds = publicIds;
+        this.publicIdOffsets = publicIdOffsets;
+        this.size = size;
+        this.maxTitleBytes = maxTitleBytes;
+    }
+
+    public static TitleDictionary of(Collection<ArticleTitle> entries) {
+        List<ArticleTitle> sorted = entries.stream()
+                .filter(entry -> entry.title() != null && entry.publicId() != null)
+                .sorted(ORDER)
+                .toList();
+
+        ByteArrayOutputStream titleBytes = new ByteArrayOutputStream();
+        ByteArrayOutputStream publicIdBytes = new ByteArrayOutputStream();
+        int[] blockOffsets = new int[(sorted.size() + BLOCK_SIZE - 1) / BLOCK_SIZE];
+        int[] publicIdOffsets = new int[sorted.size() + 1];
+        byte[] previous = new byte[0];
+        int maxTitleBytes = 0;
+
+        for (int i = 0; i < sorted.size(); i++) {
+            byte[] current = sorted.get(i).title().getBytes(StandardCharsets.UTF_8);
+            int shared = 0;
+            if (i % BLOCK_SIZE == 0) {
+                blockOffsets[i / BLOCK_SIZE] = titleBytes.size();
+            } else {
+                shared = commonPrefix(previous, current);
+            }
+            writeVarint(titleBytes, shared);
+            writeVarint(titleBytes, current.length - shared);
+            titleBytes.write(current, shared, current.length - shared);
+            maxTitleBytes = Math.max(maxTitleBytes, current.length);
+            previous = current;
+
+            publicIdBytes.writeBytes(sorted.get(i).publicId().getBytes(StandardCharsets.UTF_8));
+            publicIdOffsets[i + 1] = publicIdBytes.size();
+        }
+        return new TitleDictionary(titleBytes.toByteArray(), blockOffsets, publicIdBytes.toByteArray(), publicIdOffsets, sorted.size(), maxTitleBytes);
+    }
+
+    public TitleDictionary withTitles(Collection<ArticleTitle> changed) {
+        if (changed.isEmpty()) {
+            return this;
+        }
+        Set<String> changedPublicIds = changed.stream().map(ArticleTitle::publicId).collect(Collectors.toSet());
+        List<ArticleTitle> merged = new ArrayList<>(size + changed.size());
+        for (ArticleTitle entry : entries()) {
+            if (!changedPublicIds.contains(entry.publicId())) {
+                merged.add(entry);
+            }
+        }
+        merged.addAll(changed);
+        return of(merged);
+    }
+
+    public List<ArticleTitle> suggest(String prefix, int limit) {
+        List<ArticleTitle> suggestions = new ArrayList<>(Math.min(limit, 16));
+        if (size == 0 || limit <= 0) {
+            return suggestions;
+        }
+        String normalizedPrefix = normalize(prefix);
+        byte[] buffer = new byte[maxTitleBytes];
+        int block = findBlock(normalizedPrefix, buffer);
+        int[] position = {blockOffsets[block]};
+
+        for (int index = block * BLOCK_SIZE; index < size && suggestions.size() < limit; index++) {
+            String title = readTitle(position, buffer);
+            String normalized = normalize(title);
+            if (normalized.startsWith(normalizedPrefix)) {
+                suggestions.add(new ArticleTitle(publicId(index), title));
+            } else if (normalized.compareTo(normalizedPrefix) > 0) {
+                break;
+            }
+        }
+        return suggestions;
+    }
+
+    public List<ArticleTitle> entries() {
+        List<ArticleTitle> entries = new ArrayList<>(size);
+        byte[] buffer = new byte[maxTitleBytes];
+        int[] position = {0};
+        for (int index = 0; index < size; index++) {
+            entries.add(new ArticleTitle(publicId(index), readTitle(position, buffer)));
+        }
+        return entries;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long sizeInBytes() {
+        return titles.length + publicIds.length + 4L * (blockOffsets.length + publicIdOffsets.length);
+    }
+
+    private int findBlock(String normalizedPrefix, byte[] buffer) {
+        int low = 0;
+        int high = blockOffsets.length - 1;
+        int found = 0;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            String head = normalize(readTitle(new int[]{blockOffsets[middle]}, buffer));
+            if (head.compareTo(normalizedPrefix) < 0) {
+                found = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return found;
+    }
+
+    private String readTitle(int[] position, byte[] buffer) {
+        int shared = readVarint(position);
+        int suffix = readVarint(position);
+        System.arraycopy(titles, position[0], buffer, shared, suffix);
+        position[0] += suffix;
+        return new String(buffer, 0, shared + suffix, StandardCharsets.UTF_8);
+    }
+
+    private String publicId(int index) {
+        return new String(publicIds, publicIdOffsets[index], publicIdOffsets[index + 1] - publicIdOffsets[index], StandardCharsets.UTF_8);
+    }
+
+    private int readVarint(int[] position) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = titles[position[0]++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int commonPrefix(byte[] a, byte[] b) {
+        int length = Math.min(a.length, b.length);
+        int i = 0;
+        while (i < length && a[i] == b[i]) {
+            i++;
+        }
+        return i;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,45 @@
+ALTER TABLE article_head DROP CONSTRAINT IF EXISTS fk_article_head_approved_article_id;
+DROP TRIGGER IF EXISTS trg_articles_search ON articles;
+
+CREATE TABLE articles_partitioned (
+    id BIGINT NOT NULL,
+    public_id VARCHAR(255) NOT NULL,
+    description VARCHAR(200) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    content_hash VARCHAR(64) NOT NULL,
+    version INTEGER,
+    status VARCHAR(255) NOT NULL,
+    edited_by VARCHAR(255),
+    is_editable BOOLEAN NOT NULL,
+    is_submitted BOOLEAN NOT NULL,
+    deny_text VARCHAR(255),
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_articles PRIMARY KEY (id, status)
+    ) PARTITION BY LIST (status);
+
+CREATE TABLE articles_active PARTITION OF articles_partitioned FOR VALUES IN ('EDITING', 'SUBMITTED');
+CREATE TABLE articles_approved PARTITION OF articles_partitioned FOR VALUES IN ('APPROVED');
+
+INSERT INTO articles_partitioned (id, public_id, description, title, content_hash, version, status, edited_by,
+                                  is_editable, is_submitted, deny_text, created_at)
+SELECT id, public_id, description, title, content_hash, version, status, edited_by,
+       is_editable, is_submitted, deny_text, created_at
+FROM articles;
+
+ALTER SEQUENCE articles_id_seq OWNED BY NONE;
+DROP TABLE articles;
+ALTER TABLE articles_partitioned RENAME TO articles;
+ALTER TABLE articles ALTER COLUMN id SET DEFAULT nextval('articles_id_seq');
+ALTER SEQUENCE articles_id_seq OWNED BY articles.id;
+
+ALTER TABLE articles ADD CONSTRAINT fk_articles_content_hash FOREIGN KEY (content_hash) REFERENCES article_body (hash);
+
+CREATE INDEX IF NOT EXISTS idx_articles_public_id_status_version ON articles (public_id, status, version DESC);
+CREATE INDEX IF NOT EXISTS idx_articles_public_id_version ON articles (public_id, version);
+CREATE INDEX IF NOT EXISTS idx_articles_edited_by_status ON articles (edited_by, status);
+CREATE INDEX IF NOT EXISTS idx_articles_status_created_at_id ON articles (status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_articles_content_hash ON articles (content_hash);
+
+CREATE TRIGGER trg_articles_search
+    AFTER INSERT OR UPDATE OF title, description, content_hash, version ON articles
+    FOR EACH ROW EXECUTE FUNCTION articles_search_trigger();
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS article_archive (
+    id BIGINT PRIMARY KEY,
+    public_id VARCHAR(255) NOT NULL,
+    version INTEGER NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(200) NOT NULL,
+    edited_by VARCHAR(255),
+    content BYTEA NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    archived_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+    );
+
+ALTER TABLE article_archive ALTER COLUMN content SET STORAGE EXTERNAL;
+
+CREATE INDEX IF NOT EXISTS idx_article_archive_public_id_version ON article_archive (public_id, version);
@@ -0,0 +1 @@
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS row_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1 @@
+CREATE SEQUENCE IF NOT EXISTS cache_invalidation_seq;
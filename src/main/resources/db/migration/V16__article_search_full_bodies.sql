@@ -0,0 +1,33 @@
+CREATE OR REPLACE FUNCTION refresh_article_search(head_article_id BIGINT) RETURNS VOID AS $$
+    INSERT INTO article_search (public_id, article_id, version, title, description, content)
+    SELECT a.public_id, a.id, a.version, a.title, a.description, b.content
+    FROM articles a
+    JOIN article_body b ON b.hash = a.content_hash
+    JOIN article_head h ON h.approved_article_id = a.id
+    WHERE a.id = head_article_id
+      AND b.base_hash IS NULL
+    ON CONFLICT (public_id) DO UPDATE SET
+        article_id = EXCLUDED.article_id,
+        version = EXCLUDED.version,
+        title = EXCLUDED.title,
+        description = EXCLUDED.description,
+        content = EXCLUDED.content;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION article_body_search_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refresh_article_search(a.id)
+    FROM articles a
+    JOIN article_head h ON h.approved_article_id = a.id
+    WHERE a.content_hash = NEW.hash;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_article_body_search
+    AFTER UPDATE OF content, base_hash ON article_body
+    FOR EACH ROW
+    WHEN (NEW.base_hash IS NULL)
+    EXECUTE FUNCTION article_body_search_trigger();
+
+SELECT refresh_article_search(approved_article_id) FROM article_head;
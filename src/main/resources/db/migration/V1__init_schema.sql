@@ -9,12 +9,14 @@ CREATE TABLE IF NOT EXISTS articles (
     edited_by VARCHAR(255),
     is_editable BOOLEAN NOT NULL,
     is_submitted BOOLEAN NOT NULL,
-    deny_text VARCHAR(255) NULL
+    deny_text VARCHAR(255) NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE
     );
 
 CREATE  TABLE IF NOT EXISTS app_user
 (
     id       SERIAL PRIMARY KEY,
     username VARCHAR(255) UNIQUE NOT NULL,
-    password VARCHAR(255)        NOT NULL
+    password VARCHAR(255)        NOT NULL,
+    role     VARCHAR(255)
 );
@@ -0,0 +1,7 @@
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS created_at TIMESTAMP(6) WITH TIME ZONE;
+ALTER TABLE app_user ADD COLUMN IF NOT EXISTS role VARCHAR(255);
+
+CREATE INDEX IF NOT EXISTS idx_articles_public_id_status_version ON articles (public_id, status, version DESC);
+CREATE INDEX IF NOT EXISTS idx_articles_public_id_version ON articles (public_id, version);
+CREATE INDEX IF NOT EXISTS idx_articles_edited_by_status ON articles (edited_by, status);
+CREATE INDEX IF NOT EXISTS idx_articles_status ON articles (status);
@@ -0,0 +1,5 @@
+UPDATE articles SET created_at = now() WHERE created_at IS NULL;
+ALTER TABLE articles ALTER COLUMN created_at SET NOT NULL;
+
+DROP INDEX IF EXISTS idx_articles_status;
+CREATE INDEX IF NOT EXISTS idx_articles_status_created_at_id ON articles (status, created_at, id);
@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS article_body (
+    hash VARCHAR(64) PRIMARY KEY,
+    content TEXT NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+    );
+
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+UPDATE articles SET content_hash = encode(sha256(convert_to(content, 'UTF8')), 'hex');
+
+INSERT INTO article_body (hash, content, created_at)
+SELECT DISTINCT ON (content_hash) content_hash, content, now()
+FROM articles
+ORDER BY content_hash;
+
+ALTER TABLE articles ALTER COLUMN content_hash SET NOT NULL;
+ALTER TABLE articles ADD CONSTRAINT fk_articles_content_hash FOREIGN KEY (content_hash) REFERENCES article_body (hash);
+
+ALTER TABLE articles DROP COLUMN content;
+
+CREATE INDEX IF NOT EXISTS idx_articles_content_hash ON articles (content_hash);
+CREATE INDEX IF NOT EXISTS idx_article_body_created_at ON article_body (created_at);
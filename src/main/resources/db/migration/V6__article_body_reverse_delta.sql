@@ -0,0 +1,4 @@
+ALTER TABLE article_body ADD COLUMN IF NOT EXISTS base_hash VARCHAR(64);
+ALTER TABLE article_body ADD CONSTRAINT fk_article_body_base_hash FOREIGN KEY (base_hash) REFERENCES article_body (hash);
+
+CREATE INDEX IF NOT EXISTS idx_article_body_base_hash ON article_body (base_hash);
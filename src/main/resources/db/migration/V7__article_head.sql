@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS article_head (
+    public_id VARCHAR(255) PRIMARY KEY,
+    approved_article_id BIGINT NOT NULL,
+    version INTEGER NOT NULL,
+    CONSTRAINT fk_article_head_approved_article_id FOREIGN KEY (approved_article_id) REFERENCES articles (id)
+    );
+
+INSERT INTO article_head (public_id, approved_article_id, version)
+SELECT DISTINCT ON (public_id) public_id, id, version
+FROM articles
+WHERE status = 'APPROVED'
+ORDER BY public_id, version DESC, id DESC;
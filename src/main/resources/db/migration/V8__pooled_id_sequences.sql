@@ -0,0 +1,2 @@
+ALTER SEQUENCE articles_id_seq INCREMENT BY 50;
+ALTER SEQUENCE app_user_id_seq INCREMENT BY 50;
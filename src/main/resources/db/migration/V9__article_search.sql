@@ -0,0 +1,58 @@
+CREATE TABLE IF NOT EXISTS article_search (
+    public_id VARCHAR(255) PRIMARY KEY,
+    article_id BIGINT NOT NULL,
+    version INTEGER NOT NULL,
+    title TEXT NOT NULL,
+    description TEXT NOT NULL,
+    content TEXT NOT NULL,
+    document TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('german', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('german', coalesce(description, '')), 'B')
+        || setweight(to_tsvector('german', coalesce(content, '')), 'C')
+    ) STORED
+    );
+
+CREATE INDEX IF NOT EXISTS idx_article_search_document ON article_search USING GIN (document);
+
+CREATE OR REPLACE FUNCTION refresh_article_search(head_article_id BIGINT) RETURNS VOID AS $$
+    INSERT INTO article_search (public_id, article_id, version, title, description, content)
+    SELECT a.public_id, a.id, a.version, a.title, a.description, b.content
+    FROM articles a
+    JOIN article_body b ON b.hash = a.content_hash
+    JOIN article_head h ON h.approved_article_id = a.id
+    WHERE a.id = head_article_id
+    ON CONFLICT (public_id) DO UPDATE SET
+        article_id = EXCLUDED.article_id,
+        version = EXCLUDED.version,
+        title = EXCLUDED.title,
+        description = EXCLUDED.description,
+        content = EXCLUDED.content;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION article_head_search_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refresh_article_search(NEW.approved_article_id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION articles_search_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM refresh_article_search(NEW.id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_article_head_search
+    AFTER INSERT OR UPDATE ON article_head
+    FOR EACH ROW EXECUTE FUNCTION article_head_search_trigger();
+
+CREATE TRIGGER trg_articles_search
+    AFTER UPDATE OF title, description, content_hash, version ON articles
+    FOR EACH ROW EXECUTE FUNCTION articles_search_trigger();
+
+INSERT INTO article_search (public_id, article_id, version, title, description, content)
+SELECT a.public_id, a.id, a.version, a.title, a.description, b.content
+FROM article_head h
+JOIN articles a ON a.id = h.approved_article_id
+JOIN article_body b ON b.hash = a.content_hash;
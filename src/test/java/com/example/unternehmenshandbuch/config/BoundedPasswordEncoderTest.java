@@ -0,0 +1,102 @@
+package com.example.unternehmenshandbuch.config;
+
+import com.example.unternehmenshandbuch.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    public void testEncodeAndMatches_RunOnHashingThreads() {
+        encoder = new BoundedPasswordEncoder(new ThreadRecordingEncoder(), 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(2), meterRegistry);
+
+        assertThat(encoder.encode("secret")).startsWith("password-hashing-");
+        assertThat(encoder.matches("secret", "password-hashing-1")).isTrue();
+        assertThat(meterRegistry.get("executor.completed").tag("name", BoundedPasswordEncoder.EXECUTOR_NAME).functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    public void testEncode_RejectsWhenQueueIsFull() throws InterruptedException {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(2), meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        while (meterRegistry.get("executor.queued").tag("name", BoundedPasswordEncoder.EXECUTOR_NAME).gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> encoder.encode("third"))
+                .isInstanceOf(ServiceBusyException.class)
+                .extracting(ex -> ((ServiceBusyException) ex).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(2));
+        assertThat(meterRegistry.get("executor.rejected").tag("name", BoundedPasswordEncoder.EXECUTOR_NAME).counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo("first");
+        assertThat(queued.join()).isEqualTo("second");
+    }
+
+    @Test
+    public void testMatches_RejectsWhenHashingTakesTooLong() {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, Duration.ofMillis(50), Duration.ofSeconds(2), meterRegistry);
+
+        assertThatThrownBy(() -> encoder.matches("secret", "hash")).isInstanceOf(ServiceBusyException.class);
+    }
+
+    private static final class ThreadRecordingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return Thread.currentThread().getName();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return Thread.currentThread().getName().startsWith("password-hashing-");
+        }
+    }
+
+    private final class BlockingEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
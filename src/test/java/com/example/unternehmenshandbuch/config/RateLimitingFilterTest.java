@@ -0,0 +1,135 @@
+package com.example.unternehmenshandbuch.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimitingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RateLimitProperties properties;
+
+    private RateLimitingFilter filter;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new RateLimitProperties();
+        properties.getGroups().put("auth", group(List.of("/authenticate"), List.of(), 2));
+        properties.getGroups().put("articles-read", group(List.of("/articles/**"), List.of("get"), 3));
+        filter = new RateLimitingFilter(properties, meterRegistry);
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testDoFilter_RejectsClientAfterBurstWithRetryAfter() throws ServletException, IOException {
+        assertThat(perform("POST", "/authenticate", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(perform("POST", "/authenticate", "10.0.0.1").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = perform("POST", "/authenticate", "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isNotNull();
+        assertThat(Long.parseLong(rejected.getHeader("Retry-After"))).isPositive();
+        assertThat(counter("auth", "admitted")).isEqualTo(2);
+        assertThat(counter("auth", "rejected")).isEqualTo(1);
+    }
+
+    @Test
+    public void testDoFilter_BucketsArePerClientAndGroup() throws ServletException, IOException {
+        perform("POST", "/authenticate", "10.0.0.1");
+        perform("POST", "/authenticate", "10.0.0.1");
+
+        assertThat(perform("POST", "/authenticate", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(perform("GET", "/articles/approved", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    public void testDoFilter_AuthenticatedUsersAreLimitedPerUser() throws ServletException, IOException {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("alice", null, List.of()));
+        for (int i = 0; i < 3; i++) {
+            assertThat(perform("GET", "/articles/approved", "10.0.0." + i).getStatus()).isEqualTo(200);
+        }
+
+        assertThat(perform("GET", "/articles/approved", "10.0.0.9").getStatus()).isEqualTo(429);
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("bob", null, List.of()));
+        assertThat(perform("GET", "/articles/approved", "10.0.0.9").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    public void testIpFilter_LimitsIpKeyedGroupsRegardlessOfAuthentication() throws ServletException, IOException {
+        properties.getGroups().get("auth").setClientKey(RateLimitProperties.ClientKey.IP);
+        filter = new RateLimitingFilter(properties, meterRegistry);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("alice", null, List.of()));
+
+        assertThat(perform(filter.ipFilter(), "POST", "/authenticate", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(perform(filter.ipFilter(), "POST", "/authenticate", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(perform(filter.ipFilter(), "POST", "/authenticate", "10.0.0.1").getStatus()).isEqualTo(429);
+        assertThat(perform(filter.ipFilter(), "POST", "/authenticate", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(perform("POST", "/authenticate", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(perform(filter.ipFilter(), "GET", "/articles/approved", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    public void testDoFilter_UnmatchedRequestsPassThrough() throws ServletException, IOException {
+        for (int i = 0; i < 10; i++) {
+            assertThat(perform("POST", "/articles", "10.0.0.1").getStatus()).isEqualTo(200);
+            assertThat(perform("GET", "/actuator/health", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    public void testDoFilter_Disabled() throws ServletException, IOException {
+        properties.setEnabled(false);
+        filter = new RateLimitingFilter(properties, meterRegistry);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(perform("POST", "/authenticate", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, String remoteAddress) throws ServletException, IOException {
+        return perform(filter, method, uri, remoteAddress);
+    }
+
+    private MockHttpServletResponse perform(Filter filter, String method, String uri, String remoteAddress) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddress);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private double counter(String group, String outcome) {
+        return meterRegistry.get("rate.limit.requests").tag("group", group).tag("outcome", outcome).counter().count();
+    }
+
+    private static RateLimitProperties.Group group(List<String> paths, List<String> methods, long burstCapacity) {
+        RateLimitProperties.Group group = new RateLimitProperties.Group();
+        group.setPaths(paths);
+        group.setMethods(methods);
+        group.setReplenishRate(0.001);
+        group.setBurstCapacity(burstCapacity);
+        return group;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.unternehmenshandbuch.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.forward-headers-strategy=native",
+        "handbook.rate-limit.groups.auth.paths=/authenticate",
+        "handbook.rate-limit.groups.auth.replenish-rate=0.001",
+        "handbook.rate-limit.groups.auth.burst-capacity=2",
+        "handbook.rate-limit.groups.auth.client-key=ip",
+        "handbook.rate-limit.groups.per-ip.paths=/**",
+        "handbook.rate-limit.groups.per-ip.replenish-rate=0.001",
+        "handbook.rate-limit.groups.per-ip.burst-capacity=3",
+        "handbook.rate-limit.groups.per-ip.client-key=ip"})
+public class RateLimitingForwardedHeadersTest {
+
+    private static final String LOGIN = "{\"username\": \"nobody\", \"password\": \"wrong\"}";
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    public void testAuthGroup_KeyedOnForwardedClientAddress() throws Exception {
+        assertThat(login("203.0.113.10").statusCode()).isNotEqualTo(429);
+        assertThat(login("203.0.113.10").statusCode()).isNotEqualTo(429);
+
+        HttpResponse<String> rejected = login("203.0.113.10");
+
+        assertThat(rejected.statusCode()).isEqualTo(429);
+        assertThat(rejected.headers().firstValue("Retry-After")).isPresent();
+        assertThat(login("203.0.113.11").statusCode()).isNotEqualTo(429);
+    }
+
+    @Test
+    public void testPerIpGroup_LimitsInvalidBearerTokens() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(read("203.0.113.20", "Bearer invalid").statusCode()).isNotEqualTo(429);
+        }
+
+        assertThat(read("203.0.113.20", "Bearer invalid").statusCode()).isEqualTo(429);
+        assertThat(read("203.0.113.21", "Bearer invalid").statusCode()).isNotEqualTo(429);
+    }
+
+    private HttpResponse<String> login(String forwardedFor) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/authenticate"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", forwardedFor)
+                .POST(HttpRequest.BodyPublishers.ofString(LOGIN))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> read(String forwardedFor, String authorization) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/articles/approved"))
+                .header("X-Forwarded-For", forwardedFor)
+                .header("Authorization", authorization)
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
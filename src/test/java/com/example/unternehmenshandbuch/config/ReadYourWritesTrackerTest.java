@@ -0,0 +1,57 @@
+package com.example.unternehmenshandbuch.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReadYourWritesTrackerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void testRecordWrite_CarriesWindowToOtherNodes() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), response));
+
+        new ReadYourWritesTracker(Duration.ofSeconds(10), clock).recordWrite();
+
+        Cookie cookie = response.getCookie(ReadYourWritesTracker.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getMaxAge()).isEqualTo(10);
+        assertThat(cookie.isHttpOnly()).isTrue();
+
+        assertThat(withCookie(cookie.getValue()).isWithinWindow()).isTrue();
+    }
+
+    @Test
+    public void testIsWithinWindow_IgnoresExpiredAndForgedCookies() {
+        assertThat(withCookie(String.valueOf(NOW.minusSeconds(1).toEpochMilli())).isWithinWindow()).isFalse();
+        assertThat(withCookie(String.valueOf(NOW.plus(Duration.ofDays(1)).toEpochMilli())).isWithinWindow()).isFalse();
+        assertThat(withCookie("garbage").isWithinWindow()).isFalse();
+    }
+
+    private ReadYourWritesTracker withCookie(String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesTracker.COOKIE_NAME, value));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, new MockHttpServletResponse()));
+        return new ReadYourWritesTracker(Duration.ofSeconds(10), clock);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.unternehmenshandbuch.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate writeTransaction;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    public void setup() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", database("replica0"));
+        replicas.put("replica-1", database("replica1"));
+        readYourWritesTracker = new ReadYourWritesTracker(Duration.ofMinutes(1), Clock.systemUTC());
+        routingDataSource = new ReplicaRoutingDataSource(database("primary"), replicas, readYourWritesTracker);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testReadOnlyTransactions_AreSpreadOverReplicas() {
+        List<String> nodes = List.of(readOnlyNode(), readOnlyNode(), readOnlyNode(), readOnlyNode());
+
+        assertThat(nodes).containsOnly("replica0", "replica1");
+        assertThat(nodes).contains("replica0", "replica1");
+    }
+
+    @Test
+    public void testWriteTransactions_GoToPrimary() {
+        String node = writeTransaction.execute(status -> currentNode());
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    public void testLaggingReplicas_AreSkipped() {
+        new ReplicaLagMonitor(routingDataSource, readYourWritesTracker, Duration.ofSeconds(5), "SELECT 30").checkReplicas();
+
+        assertThat(routingDataSource.getLaggingReplicas()).containsExactlyInAnyOrder("replica-0", "replica-1");
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        new ReplicaLagMonitor(routingDataSource, readYourWritesTracker, Duration.ofSeconds(5), "SELECT 1").checkReplicas();
+
+        assertThat(routingDataSource.getLaggingReplicas()).isEmpty();
+        assertThat(readOnlyNode()).startsWith("replica");
+    }
+
+    @Test
+    public void testFailingLagQuery_MarksReplicaLagging() {
+        new ReplicaLagMonitor(routingDataSource, readYourWritesTracker, Duration.ofSeconds(5), "SELECT missing_column").checkReplicas();
+
+        assertThat(readOnlyNode()).isEqualTo("primary");
+    }
+
+    @Test
+    public void testReadsAfterOwnWrite_GoToPrimary() {
+        authenticate("writer");
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        authenticate("reader");
+        assertThat(readOnlyNode()).startsWith("replica");
+    }
+
+    @Test
+    public void testRolledBackWrite_DoesNotPinToPrimary() {
+        authenticate("writer");
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnlyNode()).startsWith("replica");
+    }
+
+    private String readOnlyNode() {
+        return readOnlyTransaction.execute(status -> currentNode());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(32))");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -1,16 +1,36 @@
 package com.example.unternehmenshandbuch.controller;
 
 import com.example.unternehmenshandbuch.config.SecurityConfig;
+import com.example.unternehmenshandbuch.controller.dto.ArticlePageResponseDto;
 import com.example.unternehmenshandbuch.controller.dto.ArticleResponseDto;
 import com.example.unternehmenshandbuch.controller.dto.ArticleStatusEditingAndVersionDto;
+import com.example.unternehmenshandbuch.controller.dto.ArticleSuggestionDto;
+import com.example.unternehmenshandbuch.controller.dto.ArticleSummaryDto;
 import com.example.unternehmenshandbuch.exception.ArticleValidationException;
+import com.example.unternehmenshandbuch.exception.ArticleConflictException;
 import com.example.unternehmenshandbuch.exception.ResourceNotFoundException;
 import com.example.unternehmenshandbuch.mapper.ArticleMapper;
 import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleEditorAndVersion;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleSummary;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleTitle;
 import com.example.unternehmenshandbuch.service.AppUserDetailsServiceImpl;
+import com.example.unternehmenshandbuch.service.ArticleImportService;
+import com.example.unternehmenshandbuch.service.ArticleReviewQueueService;
+import com.example.unternehmenshandbuch.service.ArticleSearchService;
 import com.example.unternehmenshandbuch.service.ArticleService;
+import com.example.unternehmenshandbuch.service.ArticleTypeaheadService;
 import com.example.unternehmenshandbuch.service.JwtService;
+import com.example.unternehmenshandbuch.service.TokenVersionService;
+import com.example.unternehmenshandbuch.service.UserDetailsCache;
+import com.example.unternehmenshandbuch.service.dto.ArticleBulkReviewReport;
+import com.example.unternehmenshandbuch.service.dto.ArticleImportReport;
+import com.example.unternehmenshandbuch.service.dto.ArticleImportResult;
+import com.example.unternehmenshandbuch.service.dto.ArticlePage;
 import com.example.unternehmenshandbuch.service.dto.ArticleRequestDto;
+import com.example.unternehmenshandbuch.service.dto.ArticleReviewItem;
+import com.example.unternehmenshandbuch.service.dto.ArticleSearchHit;
+import com.example.unternehmenshandbuch.service.dto.ArticleSearchPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +47,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -47,9 +68,27 @@ public class ArticleControllerTest {
     @MockBean
     private ArticleService articleService;
 
+    @MockBean
+    private ArticleImportService articleImportService;
+
+    @MockBean
+    private ArticleSearchService articleSearchService;
+
+    @MockBean
+    private ArticleTypeaheadService articleTypeaheadService;
+
+    @MockBean
+    private ArticleReviewQueueService articleReviewQueueService;
+
     @MockBean
     private AppUserDetailsServiceImpl appUserDetailsServiceImpl;
 
+    @MockBean
+    private UserDetailsCache userDetailsCache;
+
+    @MockBean
+    private TokenVersionService tokenVersionService;
+
     @MockBean
     private ArticleMapper articleMapper;
 
@@ -104,31 +143,79 @@ public class ArticleControllerTest {
                 .andExpect(jsonPath("$.isEditable").value(false));
     }
 
+    @Test
+    @WithMockUser
+    public void testImportArticles_Success() throws Exception {
+        ArticleImportReport report = new ArticleImportReport(2, 1, 1, List.of(
+                new ArticleImportResult(0, "test-id", 0, ArticleImportResult.Status.IMPORTED, null),
+                new ArticleImportResult(1, null, null, ArticleImportResult.Status.FAILED, "ArticleRequestDto or its fields must not be null or empty")));
+        when(articleImportService.importArticles(any())).thenReturn(report);
+
+        mockMvc.perform(post("/articles/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"title\": \"Test Title\"}\n{\"title\": \"\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("IMPORTED"))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"));
+    }
+
+    @Test
+    @WithMockUser
+    public void testApproveArticles_Success() throws Exception {
+        ArticleBulkReviewReport report = new ArticleBulkReviewReport(
+                List.of(new ArticleReviewItem("a", 2)), List.of(new ArticleReviewItem("b", 1)));
+        when(articleService.approveArticles(anyList())).thenReturn(report);
+
+        mockMvc.perform(post("/articles/bulk/approval")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": [{\"publicId\": \"a\", \"version\": 2}, {\"publicId\": \"b\", \"version\": 1}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded[0].publicId").value("a"))
+                .andExpect(jsonPath("$.notSubmitted[0].publicId").value("b"));
+    }
+
+    @Test
+    @WithMockUser
+    public void testApproveArticles_EmptyItems() throws Exception {
+        mockMvc.perform(post("/articles/bulk/approval")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": []}"))
+                .andExpect(status().isBadRequest());
+
+        verify(articleService, never()).approveArticles(anyList());
+    }
+
+    @Test
+    @WithMockUser
+    public void testDeclineArticles_Success() throws Exception {
+        ArticleBulkReviewReport report = new ArticleBulkReviewReport(List.of(new ArticleReviewItem("a", 2)), List.of());
+        when(articleService.declineArticles(anyList(), eq("Needs work"))).thenReturn(report);
+
+        mockMvc.perform(post("/articles/bulk/decline")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": [{\"publicId\": \"a\", \"version\": 2}], \"denyText\": \"Needs work\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded[0].publicId").value("a"));
+    }
+
     @Test
     @WithMockUser
     public void testGetArticles_Approved_Success() throws Exception {
-        Article approvedArticle = Article.builder()
-                .publicId("test-id")
-                .title("Test Title")
-                .description("Test Description")
-                .content("Test Content")
-                .version(1)
-                .status(Article.ArticleStatus.APPROVED)
-                .editedBy("testUser")
-                .build();
+        ArticleSummary approvedArticle = new ArticleSummary(null, "test-id", "Test Title", "Test Description", 1, Article.ArticleStatus.APPROVED, "testUser", null, null, null, null);
 
-        ArticleResponseDto approvedArticleResponseDto = ArticleResponseDto.builder()
+        ArticleSummaryDto approvedArticleResponseDto = ArticleSummaryDto.builder()
                 .publicId("test-id")
                 .title("Test Title")
                 .description("Test Description")
-                .content("Test Content")
                 .version(1)
                 .status(Article.ArticleStatus.APPROVED)
                 .editedBy("testUser")
                 .build();
 
         when(articleService.getApprovedArticles()).thenReturn(Collections.singletonList(approvedArticle));
-        when(articleMapper.mapToDtoList(anyList())).thenReturn(Collections.singletonList(approvedArticleResponseDto));
+        when(articleMapper.mapToSummaryDtoList(anyList())).thenReturn(Collections.singletonList(approvedArticleResponseDto));
 
         mockMvc.perform(get("/articles/approved")
                         .contentType(MediaType.APPLICATION_JSON))
@@ -136,7 +223,7 @@ public class ArticleControllerTest {
                 .andExpect(jsonPath("$[0].publicId").value("test-id"))
                 .andExpect(jsonPath("$[0].title").value("Test Title"))
                 .andExpect(jsonPath("$[0].description").value("Test Description"))
-                .andExpect(jsonPath("$[0].content").value("Test Content"))
+                .andExpect(jsonPath("$[0].content").doesNotExist())
                 .andExpect(jsonPath("$[0].version").value(1))
                 .andExpect(jsonPath("$[0].status").value("APPROVED"));
     }
@@ -152,6 +239,40 @@ public class ArticleControllerTest {
                 .andExpect(jsonPath("$").isEmpty());
     }
 
+    @Test
+    @WithMockUser
+    public void testGetArticlePageApproved_Success() throws Exception {
+        ArticleSummary summary = new ArticleSummary(1L, "test-id", "Test Title", "Test Description", 1, Article.ArticleStatus.APPROVED, "testUser", true, false, null, null);
+        ArticlePage page = new ArticlePage(Collections.singletonList(summary), "next-cursor");
+        ArticlePageResponseDto pageResponseDto = ArticlePageResponseDto.builder()
+                .articles(Collections.singletonList(ArticleSummaryDto.builder().publicId("test-id").title("Test Title").build()))
+                .nextCursor("next-cursor")
+                .build();
+
+        when(articleService.getArticlePageByStatus(Article.ArticleStatus.APPROVED, "cursor", 10)).thenReturn(page);
+        when(articleMapper.mapToPageDto(page)).thenReturn(pageResponseDto);
+
+        mockMvc.perform(get("/articles/approved/page")
+                        .param("cursor", "cursor")
+                        .param("size", "10")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles[0].publicId").value("test-id"))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+    }
+
+    @Test
+    @WithMockUser
+    public void testGetArticlePageByStatusSubmitted_InvalidCursor() throws Exception {
+        when(articleService.getArticlePageByStatus(Article.ArticleStatus.SUBMITTED, "invalid", null))
+                .thenThrow(new ArticleValidationException("Invalid cursor: invalid"));
+
+        mockMvc.perform(get("/articles/page")
+                        .param("cursor", "invalid")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser
     public void testSetSubmitStatus_NullTitle() throws Exception {
@@ -201,21 +322,12 @@ public class ArticleControllerTest {
     @Test
     @WithMockUser
     public void testGetArticlesEditedByUser_Success() throws Exception {
-        Article articleEditedByUser = Article.builder()
-                .publicId("test-id")
-                .title("User Edited Title")
-                .description("User Edited Description")
-                .content("User Edited Content")
-                .version(1)
-                .status(Article.ArticleStatus.EDITING)
-                .editedBy("testUser")
-                .build();
+        ArticleSummary articleEditedByUser = new ArticleSummary(null, "test-id", "User Edited Title", "User Edited Description", 1, Article.ArticleStatus.EDITING, "testUser", null, null, null, null);
 
-        ArticleResponseDto articleEditedByUserResponseDto = ArticleResponseDto.builder()
+        ArticleSummaryDto articleEditedByUserResponseDto = ArticleSummaryDto.builder()
                 .publicId("test-id")
                 .title("User Edited Title")
                 .description("User Edited Description")
-                .content("User Edited Content")
                 .version(1)
                 .status(Article.ArticleStatus.EDITING)
                 .editedBy("testUser")
@@ -223,7 +335,7 @@ public class ArticleControllerTest {
 
         when(articleService.getArticlesByUserAndStatus(anyString(), any(Article.ArticleStatus.class)))
                 .thenReturn(Collections.singletonList(articleEditedByUser));
-        when(articleMapper.mapToDtoList(anyList()))
+        when(articleMapper.mapToSummaryDtoList(anyList()))
                 .thenReturn(Collections.singletonList(articleEditedByUserResponseDto));
 
         mockMvc.perform(get("/articles/user/testUser")
@@ -232,7 +344,7 @@ public class ArticleControllerTest {
                 .andExpect(jsonPath("$[0].publicId").value("test-id"))
                 .andExpect(jsonPath("$[0].title").value("User Edited Title"))
                 .andExpect(jsonPath("$[0].description").value("User Edited Description"))
-                .andExpect(jsonPath("$[0].content").value("User Edited Content"))
+                .andExpect(jsonPath("$[0].content").doesNotExist())
                 .andExpect(jsonPath("$[0].version").value(1))
                 .andExpect(jsonPath("$[0].status").value("EDITING"))
                 .andExpect(jsonPath("$[0].editedBy").value("testUser"));
@@ -242,28 +354,19 @@ public class ArticleControllerTest {
     @Test
     @WithMockUser
     public void testGetArticlesByStatusSubmitted_Success() throws Exception {
-        Article submittedArticle = Article.builder()
-                .publicId("test-id")
-                .title("Submitted Title")
-                .description("Submitted Description")
-                .content("Submitted Content")
-                .version(1)
-                .status(Article.ArticleStatus.SUBMITTED)
-                .editedBy("testUser")
-                .build();
+        ArticleSummary submittedArticle = new ArticleSummary(null, "test-id", "Submitted Title", "Submitted Description", 1, Article.ArticleStatus.SUBMITTED, "testUser", null, null, null, null);
 
-        ArticleResponseDto submittedArticleResponseDto = ArticleResponseDto.builder()
+        ArticleSummaryDto submittedArticleResponseDto = ArticleSummaryDto.builder()
                 .publicId("test-id")
                 .title("Submitted Title")
                 .description("Submitted Description")
-                .content("Submitted Content")
                 .version(1)
                 .status(Article.ArticleStatus.SUBMITTED)
                 .editedBy("testUser")
                 .build();
 
         when(articleService.getArticlesByStatus()).thenReturn(Collections.singletonList(submittedArticle));
-        when(articleMapper.mapToDtoList(anyList())).thenReturn(Collections.singletonList(submittedArticleResponseDto));
+        when(articleMapper.mapToSummaryDtoList(anyList())).thenReturn(Collections.singletonList(submittedArticleResponseDto));
 
         mockMvc.perform(get("/articles")
                         .contentType(MediaType.APPLICATION_JSON))
@@ -271,7 +374,7 @@ public class ArticleControllerTest {
                 .andExpect(jsonPath("$[0].publicId").value("test-id"))
                 .andExpect(jsonPath("$[0].title").value("Submitted Title"))
                 .andExpect(jsonPath("$[0].description").value("Submitted Description"))
-                .andExpect(jsonPath("$[0].content").value("Submitted Content"))
+                .andExpect(jsonPath("$[0].content").doesNotExist())
                 .andExpect(jsonPath("$[0].version").value(1))
                 .andExpect(jsonPath("$[0].status").value("SUBMITTED"))
                 .andExpect(jsonPath("$[0].editedBy").value("testUser"));
@@ -652,67 +755,49 @@ public class ArticleControllerTest {
         String publicId = "test-id";
         String status = "approved";
 
-        Article article1 = Article.builder()
-                .publicId(publicId)
-                .title("Test Title 1")
-                .description("Test Description 1")
-                .content("Test Content 1")
-                .version(1)
-                .status(Article.ArticleStatus.APPROVED)
-                .editedBy("testUser1")
-                .build();
+        ArticleSummary article1 = new ArticleSummary(null, publicId, "Test Title 1", "Test Description 1", 1, Article.ArticleStatus.APPROVED, "testUser1", null, null, null, null);
 
-        Article article2 = Article.builder()
-                .publicId(publicId)
-                .title("Test Title 2")
-                .description("Test Description 2")
-                .content("Test Content 2")
-                .version(2)
-                .status(Article.ArticleStatus.APPROVED)
-                .editedBy("testUser2")
-                .build();
+        ArticleSummary article2 = new ArticleSummary(null, publicId, "Test Title 2", "Test Description 2", 2, Article.ArticleStatus.APPROVED, "testUser2", null, null, null, null);
 
-        List<Article> articles = Arrays.asList(article1, article2);
+        List<ArticleSummary> articles = Arrays.asList(article1, article2);
 
-        ArticleResponseDto articleDto1 = ArticleResponseDto.builder()
+        ArticleSummaryDto articleDto1 = ArticleSummaryDto.builder()
                 .publicId(publicId)
                 .title("Test Title 1")
                 .description("Test Description 1")
-                .content("Test Content 1")
                 .version(1)
                 .status(Article.ArticleStatus.APPROVED)
                 .editedBy("testUser1")
                 .build();
 
-        ArticleResponseDto articleDto2 = ArticleResponseDto.builder()
+        ArticleSummaryDto articleDto2 = ArticleSummaryDto.builder()
                 .publicId(publicId)
                 .title("Test Title 2")
                 .description("Test Description 2")
-                .content("Test Content 2")
                 .version(2)
                 .status(Article.ArticleStatus.APPROVED)
                 .editedBy("testUser2")
                 .build();
 
-        List<ArticleResponseDto> articleDtos = Arrays.asList(articleDto1, articleDto2);
+        List<ArticleSummaryDto> articleDtos = Arrays.asList(articleDto1, articleDto2);
 
         when(articleService.getAllApprovedArticlesByPublicId(eq(publicId), eq(Article.ArticleStatus.APPROVED)))
                 .thenReturn(articles);
-        when(articleMapper.mapToDtoList(articles)).thenReturn(articleDtos);
+        when(articleMapper.mapToSummaryDtoList(articles)).thenReturn(articleDtos);
 
         mockMvc.perform(get("/articles/{publicId}/approvedArticlesByPublicId/{status}", publicId, status))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].publicId").value(publicId))
                 .andExpect(jsonPath("$[0].title").value("Test Title 1"))
                 .andExpect(jsonPath("$[0].description").value("Test Description 1"))
-                .andExpect(jsonPath("$[0].content").value("Test Content 1"))
+                .andExpect(jsonPath("$[0].content").doesNotExist())
                 .andExpect(jsonPath("$[0].version").value(1))
                 .andExpect(jsonPath("$[0].status").value("APPROVED"))
                 .andExpect(jsonPath("$[0].editedBy").value("testUser1"))
                 .andExpect(jsonPath("$[1].publicId").value(publicId))
                 .andExpect(jsonPath("$[1].title").value("Test Title 2"))
                 .andExpect(jsonPath("$[1].description").value("Test Description 2"))
-                .andExpect(jsonPath("$[1].content").value("Test Content 2"))
+                .andExpect(jsonPath("$[1].content").doesNotExist())
                 .andExpect(jsonPath("$[1].version").value(2))
                 .andExpect(jsonPath("$[1].status").value("APPROVED"))
                 .andExpect(jsonPath("$[1].editedBy").value("testUser2"));
@@ -809,20 +894,103 @@ public class ArticleControllerTest {
                 .andExpect(jsonPath("$.editedBy").value("testUser"));
     }
 
+    @Test
+    @WithMockUser(username = "reviewer")
+    public void testClaimNextSubmittedArticle_Success() throws Exception {
+        when(articleReviewQueueService.claimNextSubmittedArticle("reviewer")).thenReturn(Optional.of(article));
+        when(articleMapper.mapToDto(article)).thenReturn(articleResponseDto);
+
+        mockMvc.perform(post("/articles/claim"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.publicId").value(articleResponseDto.getPublicId()));
+
+        verify(articleReviewQueueService, times(1)).claimNextSubmittedArticle("reviewer");
+    }
+
+    @Test
+    @WithMockUser(username = "reviewer")
+    public void testClaimNextSubmittedArticle_QueueEmpty() throws Exception {
+        when(articleReviewQueueService.claimNextSubmittedArticle("reviewer")).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/articles/claim"))
+                .andExpect(status().isNoContent());
+
+        verify(articleMapper, never()).mapToDto(any());
+    }
+
     @Test
     @WithMockUser
-    public void testGetEditedByWithStatusEditingAndVersion_Success() throws Exception {
-        String publicId = "test-id";
+    public void testDeclineArticle_ChangedConcurrently_Conflict() throws Exception {
+        when(articleService.declineArticleByPublicIdAndStatus("test-id", Article.ArticleStatus.SUBMITTED, "Reason"))
+                .thenThrow(new ArticleConflictException("No submitted article found with publicId: test-id"));
 
-        Article article = Article.builder()
-                .publicId(publicId)
+        mockMvc.perform(post("/articles/decline/{publicId}/{status}/{denyText}", "test-id", "SUBMITTED", "Reason")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(content().string("No submitted article found with publicId: test-id"));
+
+        verify(articleMapper, never()).mapToDto(any());
+    }
+
+    @Test
+    @WithMockUser
+    public void testSearchArticles_Success() throws Exception {
+        ArticleSearchHit hit = ArticleSearchHit.builder()
+                .id(1L)
+                .publicId("test-id")
+                .version(2)
                 .title("Test Title")
                 .description("Test Description")
-                .content("Test Content")
-                .status(Article.ArticleStatus.EDITING)
-                .editedBy("testUser")
-                .version(1)
+                .snippet("Test <mark>Content</mark>")
+                .score(0.5)
                 .build();
+        when(articleSearchService.search("content", 1, 10)).thenReturn(new ArticleSearchPage(List.of(hit), 1, 10, true));
+
+        mockMvc.perform(get("/articles/search")
+                        .param("q", "content")
+                        .param("page", "1")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits[0].publicId").value("test-id"))
+                .andExpect(jsonPath("$.hits[0].snippet").value("Test <mark>Content</mark>"))
+                .andExpect(jsonPath("$.hits[0].content").doesNotExist())
+                .andExpect(jsonPath("$.page").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @WithMockUser
+    public void testSearchArticles_BlankQuery() throws Exception {
+        when(articleSearchService.search(" ", null, null)).thenThrow(new ArticleValidationException("Search query must not be null or empty"));
+
+        mockMvc.perform(get("/articles/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    public void testSuggestArticleTitles_Success() throws Exception {
+        List<ArticleTitle> titles = List.of(new ArticleTitle("test-id", "Test Title"));
+        when(articleTypeaheadService.suggest("te", 5)).thenReturn(titles);
+        when(articleMapper.mapToSuggestionDtoList(titles)).thenReturn(List.of(ArticleSuggestionDto.builder()
+                .publicId("test-id")
+                .title("Test Title")
+                .build()));
+
+        mockMvc.perform(get("/articles/suggest")
+                        .param("prefix", "te")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].publicId").value("test-id"))
+                .andExpect(jsonPath("$[0].title").value("Test Title"));
+    }
+
+    @Test
+    @WithMockUser
+    public void testGetEditedByWithStatusEditingAndVersion_Success() throws Exception {
+        String publicId = "test-id";
+
+        ArticleEditorAndVersion article = mock(ArticleEditorAndVersion.class);
 
         ArticleStatusEditingAndVersionDto articleDto = ArticleStatusEditingAndVersionDto.builder()
                 .editedBy("testUser")
@@ -0,0 +1,123 @@
+package com.example.unternehmenshandbuch.controller;
+
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.model.ArticleBody;
+import com.example.unternehmenshandbuch.persistence.ArticleBodyRepository;
+import com.example.unternehmenshandbuch.persistence.ArticleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+public class ArticleEndpointBenchmarkTest {
+
+    private static final int PUBLIC_IDS = 50;
+    private static final int CONTENT_SIZE = 32 * 1024;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleBodyRepository articleBodyRepository;
+
+    @BeforeEach
+    public void setup() {
+        String content = "x".repeat(CONTENT_SIZE);
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < PUBLIC_IDS; i++) {
+            for (int version = 1; version <= 3; version++) {
+                articles.add(article("bench-" + i, version, Article.ArticleStatus.APPROVED, content));
+            }
+            articles.add(article("bench-" + i, 4, i % 2 == 0 ? Article.ArticleStatus.SUBMITTED : Article.ArticleStatus.EDITING, content));
+        }
+        articleBodyRepository.save(new ArticleBody(articles.get(0).getContentHash(), content));
+        articleRepository.saveAll(articles);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        articleRepository.deleteAll();
+        articleBodyRepository.deleteAll();
+    }
+
+    @Test
+    public void benchmarkListAndMetadataEndpoints() throws Exception {
+        Map<String, String> endpoints = new LinkedHashMap<>();
+        endpoints.put("submitted list", "/articles");
+        endpoints.put("submitted page", "/articles/page?size=100");
+        endpoints.put("approved list", "/articles/approved");
+        endpoints.put("approved page", "/articles/approved/page?size=100");
+        endpoints.put("edited by user", "/articles/user/bench-editor");
+        endpoints.put("approved by publicId", "/articles/bench-1/approvedArticlesByPublicId/APPROVED");
+        endpoints.put("editedBy and version", "/articles/editedByWithStatusEditing/bench-1");
+        endpoints.put("single article (full)", "/articles/bench-1/1");
+
+        System.out.printf("%-24s %12s %12s %12s%n", "endpoint", "bytes", "mean ms", "p95 ms");
+        for (Map.Entry<String, String> endpoint : endpoints.entrySet()) {
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                perform(endpoint.getValue());
+            }
+
+            long[] durations = new long[MEASURED_ITERATIONS];
+            MvcResult lastResult = null;
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                long start = System.nanoTime();
+                lastResult = perform(endpoint.getValue());
+                durations[i] = System.nanoTime() - start;
+            }
+
+            Arrays.sort(durations);
+            double mean = Arrays.stream(durations).average().orElse(0) / 1_000_000d;
+            double p95 = durations[(int) Math.ceil(MEASURED_ITERATIONS * 0.95) - 1] / 1_000_000d;
+            String body = lastResult.getResponse().getContentAsString();
+            System.out.printf("%-24s %12d %12.3f %12.3f%n", endpoint.getKey(), lastResult.getResponse().getContentAsByteArray().length, mean, p95);
+
+            if (!endpoint.getKey().endsWith("(full)")) {
+                assertThat(body).doesNotContain("\"content\"");
+            }
+        }
+    }
+
+    private MvcResult perform(String url) throws Exception {
+        return mockMvc.perform(get(url)).andExpect(status().isOk()).andReturn();
+    }
+
+    private static Article article(String publicId, int version, Article.ArticleStatus status, String content) {
+        return Article.builder()
+                .publicId(publicId)
+                .title("Title " + publicId)
+                .description("Description " + publicId)
+                .content(content)
+                .version(version)
+                .status(status)
+                .editedBy("bench-editor")
+                .isEditable(status == Article.ArticleStatus.APPROVED)
+                .isSubmitted(status == Article.ArticleStatus.SUBMITTED)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.unternehmenshandbuch.controller;
+
+import com.example.unternehmenshandbuch.persistence.ArticleBodyRepository;
+import com.example.unternehmenshandbuch.persistence.ArticleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+public class ArticleImportBenchmarkTest {
+
+    private static final int RECORDS = 20_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleBodyRepository articleBodyRepository;
+
+    @AfterEach
+    public void tearDown() {
+        articleRepository.deleteAllInBatch();
+        articleBodyRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void benchmarkNdjsonImport() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < RECORDS; i++) {
+            body.append("{\"publicId\": \"legacy-").append(i)
+                    .append("\", \"title\": \"Legacy page ").append(i)
+                    .append("\", \"description\": \"Imported from the legacy handbook\", \"content\": \"")
+                    .append("Legacy content of page ").append(i).append(". ".repeat(200))
+                    .append("\", \"editedBy\": \"importer\"}\n");
+        }
+
+        long start = System.nanoTime();
+        mockMvc.perform(post("/articles/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(RECORDS));
+        double seconds = (System.nanoTime() - start) / 1_000_000_000d;
+
+        System.out.printf("imported %d articles in %.2f s (%.0f articles/s)%n", RECORDS, seconds, RECORDS / seconds);
+        assertThat(articleRepository.count()).isEqualTo(RECORDS);
+    }
+}
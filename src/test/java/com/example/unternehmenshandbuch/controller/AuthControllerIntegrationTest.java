@@ -0,0 +1,50 @@
+package com.example.unternehmenshandbuch.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "handbook.auth.stateless=true")
+@AutoConfigureMockMvc
+public class AuthControllerIntegrationTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	public void testRevokeTokens_RejectsPreviouslyIssuedTokens() throws Exception {
+		mockMvc.perform(post("/register")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"username\": \"revoked\", \"password\": \"secret\", \"tokenVersion\": 7}"))
+				.andExpect(status().isOk());
+		String userToken = authenticate("revoked", "secret");
+		String adminToken = authenticate("admin", "admin");
+
+		mockMvc.perform(get("/articles/approved").header("Authorization", "Bearer " + userToken))
+				.andExpect(status().isOk());
+		mockMvc.perform(post("/users/revoked/revoke").header("Authorization", "Bearer " + userToken))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(post("/users/revoked/revoke").header("Authorization", "Bearer " + adminToken))
+				.andExpect(status().isNoContent());
+
+		mockMvc.perform(get("/articles/approved").header("Authorization", "Bearer " + userToken))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(get("/articles/approved").header("Authorization", "Bearer " + authenticate("revoked", "secret")))
+				.andExpect(status().isOk());
+	}
+
+	private String authenticate(String username, String password) throws Exception {
+		return mockMvc.perform(post("/authenticate")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"username\": \"" + username + "\", \"password\": \"" + password + "\"}"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+	}
+}
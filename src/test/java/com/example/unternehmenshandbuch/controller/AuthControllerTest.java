@@ -2,10 +2,14 @@ package com.example.unternehmenshandbuch.controller;
 
 import com.example.unternehmenshandbuch.config.SecurityConfig;
 import com.example.unternehmenshandbuch.controller.dto.LoginForm;
+import com.example.unternehmenshandbuch.exception.ResourceNotFoundException;
+import com.example.unternehmenshandbuch.exception.ServiceBusyException;
 import com.example.unternehmenshandbuch.model.AppUser;
 import com.example.unternehmenshandbuch.persistence.AppUserRepository;
 import com.example.unternehmenshandbuch.service.AppUserDetailsServiceImpl;
 import com.example.unternehmenshandbuch.service.JwtService;
+import com.example.unternehmenshandbuch.service.TokenVersionService;
+import com.example.unternehmenshandbuch.service.UserDetailsCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,13 +29,17 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -54,6 +62,12 @@ public class AuthControllerTest {
 	@MockBean
 	private AppUserRepository repository;
 
+	@MockBean
+	private UserDetailsCache userDetailsCache;
+
+	@MockBean
+	private TokenVersionService tokenVersionService;
+
 	private AppUser user;
 	private LoginForm loginForm;
 	private UserDetails userDetails;
@@ -97,6 +111,18 @@ public class AuthControllerTest {
 				.andExpect(status().isUnauthorized());
 	}
 
+	@Test
+	@WithMockUser
+	public void testAuthenticateAndGetToken_HashingSaturated() throws Exception {
+		when(authenticationManager.authenticate(any())).thenThrow(new ServiceBusyException("Too many login requests, try again later", Duration.ofSeconds(2)));
+
+		mockMvc.perform(post("/authenticate")
+								.contentType(MediaType.APPLICATION_JSON)
+								.content("{\"username\": \"testuser\", \"password\": \"password\"}"))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(header().string("Retry-After", "2"));
+	}
+
 	@Test
 	@WithMockUser
 	public void testCreateUser_Success() throws Exception {
@@ -105,6 +131,8 @@ public class AuthControllerTest {
 
 		mockMvc.perform(post("/register").contentType(MediaType.APPLICATION_JSON).content("{\"username\": \"testuser\", \"password\": \"password\"}")).andExpect(status().isOk())
 				.andExpect(jsonPath("$.username").value("testuser")).andExpect(jsonPath("$.role").value("USER"));
+
+		verify(userDetailsCache).invalidate("testuser");
 	}
 
 	@Test
@@ -114,6 +142,8 @@ public class AuthControllerTest {
 
 		mockMvc.perform(post("/register").contentType(MediaType.APPLICATION_JSON).content("{\"username\": \"testuser\", \"password\": \"password\"}"))
 				.andExpect(status().isBadRequest());
+
+		verify(userDetailsCache, never()).invalidate(any());
 	}
 
 	@Test
@@ -167,4 +197,30 @@ public class AuthControllerTest {
 				.andExpect(jsonPath("$.role").value("USER"));
 	}
 
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	public void testRevokeTokens_Admin() throws Exception {
+		mockMvc.perform(post("/users/testuser/revoke"))
+				.andExpect(status().isNoContent());
+
+		verify(tokenVersionService).revoke("testuser");
+	}
+
+	@Test
+	@WithMockUser
+	public void testRevokeTokens_NotAdmin_Forbidden() throws Exception {
+		mockMvc.perform(post("/users/testuser/revoke"))
+				.andExpect(status().isForbidden());
+
+		verify(tokenVersionService, never()).revoke(any());
+	}
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	public void testRevokeTokens_UnknownUser() throws Exception {
+		when(tokenVersionService.revoke("unknown")).thenThrow(new ResourceNotFoundException("Username: unknown not found"));
+
+		mockMvc.perform(post("/users/unknown/revoke"))
+				.andExpect(status().isNotFound());
+	}
 }
@@ -0,0 +1,165 @@
+package com.example.unternehmenshandbuch.controller;
+
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.model.ArticleBody;
+import com.example.unternehmenshandbuch.persistence.ArticleBodyRepository;
+import com.example.unternehmenshandbuch.persistence.ArticleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=" + LoginStormBenchmarkTest.TOMCAT_THREADS,
+        "handbook.auth.hashing.threads=1",
+        "handbook.auth.hashing.queue-capacity=4",
+        "handbook.rate-limit.enabled=false"})
+public class LoginStormBenchmarkTest {
+
+    static final int TOMCAT_THREADS = 16;
+
+    private static final int PUBLIC_IDS = 50;
+    private static final int LOGIN_THREADS = 32;
+    private static final int WARMUP_READS = 200;
+    private static final int MEASURED_READS = 2000;
+    private static final double MAX_P99_RATIO = 2.0;
+    private static final String READ_URL = "/articles/approved/page?size=20";
+    private static final String LOGIN = "{\"username\": \"user\", \"password\": \"user\"}";
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleBodyRepository articleBodyRepository;
+
+    private String token;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < PUBLIC_IDS; i++) {
+            articles.add(Article.builder()
+                    .publicId("storm-" + i)
+                    .title("Title " + i)
+                    .description("Description " + i)
+                    .content("Content")
+                    .version(1)
+                    .status(Article.ArticleStatus.APPROVED)
+                    .editedBy("bench-editor")
+                    .isEditable(true)
+                    .isSubmitted(false)
+                    .build());
+        }
+        articleBodyRepository.save(new ArticleBody(articles.get(0).getContentHash(), "Content"));
+        articleRepository.saveAll(articles);
+        HttpResponse<String> login = login();
+        assertThat(login.statusCode()).isEqualTo(200);
+        token = login.body();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        articleRepository.deleteAll();
+        articleBodyRepository.deleteAll();
+    }
+
+    @Test
+    public void benchmarkReadLatencyDuringLoginStorm() throws Exception {
+        measureReads(WARMUP_READS);
+        long[] baseline = measureReads(MEASURED_READS);
+
+        AtomicBoolean storming = new AtomicBoolean(true);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService loginClients = Executors.newFixedThreadPool(LOGIN_THREADS);
+        for (int i = 0; i < LOGIN_THREADS; i++) {
+            loginClients.submit(() -> {
+                while (storming.get()) {
+                    HttpResponse<String> response = login();
+                    if (response.statusCode() == 503) {
+                        rejected.incrementAndGet();
+                        Thread.sleep(response.headers().firstValueAsLong("Retry-After").orElse(1) * 1000);
+                    } else {
+                        accepted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        long[] storm;
+        try {
+            Thread.sleep(500);
+            storm = measureReads(MEASURED_READS);
+        } finally {
+            storming.set(false);
+            loginClients.shutdown();
+            loginClients.awaitTermination(30, TimeUnit.SECONDS);
+        }
+
+        System.out.printf("%-10s %10s %10s %10s%n", "phase", "p50 ms", "p95 ms", "p99 ms");
+        print("baseline", baseline);
+        print("storm", storm);
+        System.out.printf("logins accepted=%d rejected(503)=%d%n", accepted.get(), rejected.get());
+
+        assertThat(rejected.get()).isPositive();
+        assertThat(percentile(storm, 0.99)).isLessThanOrEqualTo((long) (MAX_P99_RATIO * percentile(baseline, 0.99)));
+    }
+
+    private long[] measureReads(int count) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(READ_URL)).header("Authorization", "Bearer " + token).GET().build();
+        long[] durations = new long[count];
+        for (int i = 0; i < count; i++) {
+            long start = System.nanoTime();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            durations[i] = System.nanoTime() - start;
+            assertThat(response.statusCode()).isEqualTo(200);
+        }
+        Arrays.sort(durations);
+        return durations;
+    }
+
+    private HttpResponse<String> login() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/authenticate"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(LOGIN))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static void print(String phase, long[] durations) {
+        System.out.printf("%-10s %10.3f %10.3f %10.3f%n", phase, percentile(durations, 0.5) / 1_000_000d,
+                percentile(durations, 0.95) / 1_000_000d, percentile(durations, 0.99) / 1_000_000d);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.ceil(sorted.length * percentile) - 1];
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.unternehmenshandbuch.exceptions;
 
+import com.example.unternehmenshandbuch.exception.ArticleConflictException;
 import com.example.unternehmenshandbuch.exception.ArticleValidationException;
 import com.example.unternehmenshandbuch.exception.GlobalExceptionHandler;
 import com.example.unternehmenshandbuch.exception.ResourceNotFoundException;
+import com.example.unternehmenshandbuch.exception.ServiceBusyException;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -11,6 +15,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -43,6 +48,32 @@ public class GlobalExceptionHandlerTest {
 		assertThat(response.getBody()).isEqualTo("Resource not found");
 	}
 
+	@Test
+	public void testHandleArticleConflictException() {
+		ArticleConflictException ex = new ArticleConflictException("Article was changed concurrently");
+		ResponseEntity<String> response = handler.handleArticleConflictException(ex);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+		assertThat(response.getBody()).isEqualTo("Article was changed concurrently");
+	}
+
+	@Test
+	public void testHandleServiceBusyException() {
+		ServiceBusyException ex = new ServiceBusyException("Too many login requests, try again later", Duration.ofSeconds(2));
+		ResponseEntity<String> response = handler.handleServiceBusyException(ex);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+		assertThat(response.getBody()).isEqualTo("Too many login requests, try again later");
+	}
+
+	@Test
+	public void testHandleConcurrencyFailureException() {
+		ResponseEntity<String> response = handler.handleConcurrencyFailureException(new PessimisticLockingFailureException("could not serialize access"));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+	}
+
 	@Test
 	public void testHandleValidationExceptions() {
 		BindingResult bindingResult = mock(BindingResult.class);
@@ -0,0 +1,57 @@
+package com.example.unternehmenshandbuch.helper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DeltaTest {
+
+    private static final String BASE = "The company handbook describes onboarding, travel expenses, holidays and the code of conduct. ".repeat(20);
+
+    @Test
+    public void testDiffAndApply_SmallEdit() {
+        String target = BASE.replaceFirst("travel expenses", "travel and meal expenses");
+
+        String delta = Delta.diff(BASE, target);
+
+        assertThat(Delta.apply(BASE, delta)).isEqualTo(target);
+        assertThat(delta.length()).isLessThan(target.length() / 10);
+    }
+
+    @Test
+    public void testDiffAndApply_IdenticalContent() {
+        String delta = Delta.diff(BASE, BASE);
+
+        assertThat(Delta.apply(BASE, delta)).isEqualTo(BASE);
+        assertThat(delta).startsWith("C0,");
+    }
+
+    @Test
+    public void testDiffAndApply_UnrelatedContent() {
+        String target = "Completely different text without any shared block.";
+
+        String delta = Delta.diff(BASE, target);
+
+        assertThat(Delta.apply(BASE, delta)).isEqualTo(target);
+    }
+
+    @Test
+    public void testDiffAndApply_EmptyContent() {
+        assertThat(Delta.apply(BASE, Delta.diff(BASE, ""))).isEmpty();
+        assertThat(Delta.apply("", Delta.diff("", BASE))).isEqualTo(BASE);
+    }
+
+    @Test
+    public void testDiffAndApply_LiteralContainsDelimiters() {
+        String target = "I3:abc;C0,5;" + BASE + "C12,4;";
+
+        assertThat(Delta.apply(BASE, Delta.diff(BASE, target))).isEqualTo(target);
+    }
+
+    @Test
+    public void testApply_InvalidOperation() {
+        assertThatThrownBy(() -> Delta.apply(BASE, "X1:a"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
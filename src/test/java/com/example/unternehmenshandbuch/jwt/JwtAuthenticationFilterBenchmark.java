@@ -0,0 +1,74 @@
+package com.example.unternehmenshandbuch.jwt;
+
+import com.example.unternehmenshandbuch.config.JwtAuthenticationFilter;
+import com.example.unternehmenshandbuch.service.AppUserDetailsServiceImpl;
+import com.example.unternehmenshandbuch.service.JwtService;
+import com.example.unternehmenshandbuch.service.TokenVersionService;
+import com.example.unternehmenshandbuch.service.UserDetailsCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"0", "10000"})
+    public long verifiedCacheSize;
+
+    @Param({"false", "true"})
+    public boolean stateless;
+
+    private JwtAuthenticationFilter filter;
+
+    private String authorization;
+
+    private final FilterChain filterChain = (request, response) -> {
+    };
+
+    @Setup(Level.Trial)
+    public void setup() {
+        UserDetails user = new User("bench", "password", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        AppUserDetailsServiceImpl userDetailsService = new AppUserDetailsServiceImpl(null) {
+            @Override
+            public UserDetails loadUserByUsername(String username) {
+                return user;
+            }
+        };
+        JwtService jwtService = new JwtService(verifiedCacheSize);
+        UserDetailsCache userDetailsCache = new UserDetailsCache(userDetailsService, new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+        filter = new JwtAuthenticationFilter(jwtService, userDetailsCache, new TokenVersionService(null, userDetailsCache, event -> { }), stateless);
+        authorization = "Bearer " + jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Authentication authenticateRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/articles/approved");
+        request.addHeader("Authorization", authorization);
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
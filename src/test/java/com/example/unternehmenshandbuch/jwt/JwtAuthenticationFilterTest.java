@@ -1,41 +1,52 @@
 package com.example.unternehmenshandbuch.jwt;
 
 import com.example.unternehmenshandbuch.config.JwtAuthenticationFilter;
-import com.example.unternehmenshandbuch.service.AppUserDetailsServiceImpl;
 import com.example.unternehmenshandbuch.service.JwtService;
+import com.example.unternehmenshandbuch.service.TokenVersionService;
+import com.example.unternehmenshandbuch.service.UserDetailsCache;
+import com.example.unternehmenshandbuch.service.VerifiedToken;
+import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class JwtAuthenticationFilterTest {
 
-	@InjectMocks
 	private JwtAuthenticationFilter jwtAuthenticationFilter;
 
 	@Mock
 	private JwtService jwtService;
 
 	@Mock
-	private AppUserDetailsServiceImpl appUserDetailsServiceImpl;
+	private UserDetailsCache userDetailsCache;
+
+	@Mock
+	private TokenVersionService tokenVersionService;
 
 	private MockHttpServletRequest request;
 	private MockHttpServletResponse response;
@@ -47,6 +58,7 @@ public class JwtAuthenticationFilterTest {
 		response = new MockHttpServletResponse();
 		filterChain = new MockFilterChain();
 		SecurityContextHolder.clearContext();
+		jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtService, userDetailsCache, tokenVersionService, false);
 	}
 
 	@Test
@@ -67,12 +79,13 @@ public class JwtAuthenticationFilterTest {
 		request.addHeader("Authorization", "Bearer validToken");
 
 		UserDetails userDetails = new User("testuser", "password", Collections.singletonList(() -> "ROLE_USER"));
-		when(jwtService.extractUsername(anyString())).thenReturn("testuser");
-		when(appUserDetailsServiceImpl.loadUserByUsername(anyString())).thenReturn(userDetails);
-		when(jwtService.isTokenValid(anyString())).thenReturn(true);
+		when(jwtService.verify("validToken")).thenReturn(verifiedToken());
+		when(tokenVersionService.isCurrent("testuser", 0)).thenReturn(true);
+		when(userDetailsCache.loadUserByUsername(anyString())).thenReturn(userDetails);
 
 		jwtAuthenticationFilter.doFilter(request, response, filterChain);
 
+		verify(jwtService, times(1)).verify("validToken");
 		UsernamePasswordAuthenticationToken authentication = (UsernamePasswordAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
 		assertThat(authentication).isNotNull();
 		assertThat(authentication.getName()).isEqualTo("testuser");
@@ -84,8 +97,9 @@ public class JwtAuthenticationFilterTest {
 	public void testDoFilter_ValidToken_NotAuthenticated() throws ServletException, IOException {
 		request.addHeader("Authorization", "Bearer validToken");
 
-		when(jwtService.extractUsername(anyString())).thenReturn("testuser");
-		when(appUserDetailsServiceImpl.loadUserByUsername(anyString())).thenReturn(null);
+		when(jwtService.verify(anyString())).thenReturn(verifiedToken());
+		when(tokenVersionService.isCurrent("testuser", 0)).thenReturn(true);
+		when(userDetailsCache.loadUserByUsername(anyString())).thenReturn(null);
 
 		jwtAuthenticationFilter.doFilter(request, response, filterChain);
 
@@ -93,14 +107,49 @@ public class JwtAuthenticationFilterTest {
 	}
 
 	@Test
-	public void testDoFilter_InvalidToken() throws ServletException, IOException {
+	public void testDoFilter_InvalidToken() {
 		request.addHeader("Authorization", "Bearer invalidToken");
 
-		when(jwtService.extractUsername(anyString())).thenReturn("testuser");
-		when(appUserDetailsServiceImpl.loadUserByUsername(anyString())).thenReturn(null);
+		when(jwtService.verify(anyString())).thenThrow(new SignatureException("JWT signature does not match"));
+
+		assertThatThrownBy(() -> jwtAuthenticationFilter.doFilter(request, response, filterChain)).isInstanceOf(SignatureException.class);
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+		verifyNoInteractions(userDetailsCache);
+	}
+
+	@Test
+	public void testDoFilter_Stateless_AuthoritiesFromClaims() throws ServletException, IOException {
+		jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtService, userDetailsCache, tokenVersionService, true);
+		request.addHeader("Authorization", "Bearer validToken");
+
+		when(jwtService.verify("validToken")).thenReturn(new VerifiedToken("testuser", List.of("ROLE_ADMIN"), 2, Instant.now().plusSeconds(60)));
+		when(tokenVersionService.isCurrent("testuser", 2)).thenReturn(true);
+
+		jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+		UsernamePasswordAuthenticationToken authentication = (UsernamePasswordAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
+		assertThat(authentication.getName()).isEqualTo("testuser");
+		assertThat(authentication.getCredentials()).isNull();
+		assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+		verifyNoInteractions(userDetailsCache);
+	}
+
+	@Test
+	public void testDoFilter_Stateless_RevokedTokenVersion() throws ServletException, IOException {
+		jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtService, userDetailsCache, tokenVersionService, true);
+		request.addHeader("Authorization", "Bearer revokedToken");
+
+		when(jwtService.verify("revokedToken")).thenReturn(verifiedToken());
+		when(tokenVersionService.isCurrent("testuser", 0)).thenReturn(false);
 
 		jwtAuthenticationFilter.doFilter(request, response, filterChain);
 
 		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+		verifyNoInteractions(userDetailsCache);
+	}
+
+	private static VerifiedToken verifiedToken() {
+		return new VerifiedToken("testuser", List.of("ROLE_USER"), 0, Instant.now().plusSeconds(60));
 	}
 }
@@ -1,6 +1,8 @@
 package com.example.unternehmenshandbuch.jwt;
 
+import com.example.unternehmenshandbuch.service.AppUserDetails;
 import com.example.unternehmenshandbuch.service.JwtService;
+import com.example.unternehmenshandbuch.service.VerifiedToken;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,9 +13,12 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import javax.crypto.SecretKey;
 import java.lang.reflect.Field;
+import java.time.Instant;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,7 +29,7 @@ class JwtServiceTest {
 
 	@BeforeEach
 	void setUp() throws Exception {
-		jwtService = new JwtService();
+		jwtService = new JwtService(100);
 
 		Field secretField = JwtService.class.getDeclaredField("SECRET");
 		secretField.setAccessible(true);
@@ -76,4 +81,60 @@ class JwtServiceTest {
 
 		assertThrows(io.jsonwebtoken.ExpiredJwtException.class, () -> jwtService.isTokenValid(token));
 	}
+
+	@Test
+	void verify_ShouldReturnUsernameRolesAndExpiry() {
+		UserDetails userDetails = new User("testuser", "password", List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN")));
+		String token = jwtService.generateToken(userDetails);
+
+		VerifiedToken verified = jwtService.verify(token);
+
+		assertEquals("testuser", verified.username());
+		assertEquals(Set.of("ROLE_USER", "ROLE_ADMIN"), Set.copyOf(verified.roles()));
+		assertTrue(verified.expiresAt().isAfter(Instant.now()));
+	}
+
+	@Test
+	void verify_ShouldReuseRecentlyVerifiedToken() {
+		UserDetails userDetails = new User("testuser", "password", Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+		String token = jwtService.generateToken(userDetails);
+
+		VerifiedToken first = jwtService.verify(token);
+		VerifiedToken second = jwtService.verify(token);
+
+		assertSame(first, second);
+	}
+
+	@Test
+	void verify_ShouldRejectTamperedTokenAfterOriginalWasCached() {
+		UserDetails userDetails = new User("testuser", "password", Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+		String token = jwtService.generateToken(userDetails);
+		jwtService.verify(token);
+
+		String[] parts = token.split("\\.");
+		String tampered = parts[0] + "." + parts[1] + "." + new StringBuilder(parts[2]).reverse();
+
+		assertThrows(io.jsonwebtoken.JwtException.class, () -> jwtService.verify(tampered));
+	}
+
+	@Test
+	void verify_ShouldRejectTokenWithoutExpiration() {
+		String token = Jwts.builder()
+				.subject("testuser")
+				.signWith(secretKey)
+				.compact();
+
+		assertThrows(io.jsonwebtoken.MalformedJwtException.class, () -> jwtService.verify(token));
+	}
+
+	@Test
+	void generateToken_ShouldEmbedTokenVersion() {
+		UserDetails userDetails = new User("testuser", "password", Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+
+		VerifiedToken current = jwtService.verify(jwtService.generateToken(new AppUserDetails(userDetails, 3)));
+		VerifiedToken legacy = jwtService.verify(jwtService.generateToken(userDetails));
+
+		assertEquals(3, current.tokenVersion());
+		assertEquals(0, legacy.tokenVersion());
+	}
 }
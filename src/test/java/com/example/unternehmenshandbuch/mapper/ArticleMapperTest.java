@@ -2,7 +2,12 @@ package com.example.unternehmenshandbuch.mapper;
 
 import com.example.unternehmenshandbuch.controller.dto.ArticleResponseDto;
 import com.example.unternehmenshandbuch.controller.dto.ArticleStatusEditingAndVersionDto;
+import com.example.unternehmenshandbuch.controller.dto.ArticleSuggestionDto;
+import com.example.unternehmenshandbuch.controller.dto.ArticleSummaryDto;
 import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleEditorAndVersion;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleSummary;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleTitle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -15,6 +20,7 @@ public class ArticleMapperTest {
 
 	private ArticleMapper articleMapper;
 	private Article article;
+	private ArticleSummary articleSummary;
 
 	@BeforeEach
 	public void setUp() {
@@ -30,6 +36,9 @@ public class ArticleMapperTest {
 				.editedBy("testUser")
 				.isSubmitted(true)
 				.build();
+
+		articleSummary = new ArticleSummary(1L, "test-id", "Test Title", "Test Description", 1,
+				Article.ArticleStatus.EDITING, "testUser", false, true, null, null);
 	}
 
 	@Test
@@ -54,30 +63,29 @@ public class ArticleMapperTest {
 	}
 
 	@Test
-	public void testMapToDtoList_NullList() {
-		List<ArticleResponseDto> dtos = articleMapper.mapToDtoList(null);
+	public void testMapToSummaryDtoList_NullList() {
+		List<ArticleSummaryDto> dtos = articleMapper.mapToSummaryDtoList(null);
 		assertThat(dtos).isNull();
 	}
 
 	@Test
-	public void testMapToDtoList_EmptyList() {
-		List<ArticleResponseDto> dtos = articleMapper.mapToDtoList(Collections.emptyList());
+	public void testMapToSummaryDtoList_EmptyList() {
+		List<ArticleSummaryDto> dtos = articleMapper.mapToSummaryDtoList(Collections.emptyList());
 		assertThat(dtos).isNull();
 	}
 
 	@Test
-	public void testMapToDtoList_ValidList() {
-		List<ArticleResponseDto> dtos = articleMapper.mapToDtoList(Collections.singletonList(article));
+	public void testMapToSummaryDtoList_ValidList() {
+		List<ArticleSummaryDto> dtos = articleMapper.mapToSummaryDtoList(Collections.singletonList(articleSummary));
 
 		assertThat(dtos).isNotNull();
 		assertThat(dtos).hasSize(1);
 
-		ArticleResponseDto dto = dtos.get(0);
+		ArticleSummaryDto dto = dtos.get(0);
 
 		assertThat(dto.getPublicId()).isEqualTo("test-id");
 		assertThat(dto.getTitle()).isEqualTo("Test Title");
 		assertThat(dto.getDescription()).isEqualTo("Test Description");
-		assertThat(dto.getContent()).isEqualTo("Test Content");
 		assertThat(dto.getVersion()).isEqualTo(1);
 		assertThat(dto.getStatus()).isEqualTo(Article.ArticleStatus.EDITING);
 		assertThat(dto.getEditedBy()).isEqualTo("testUser");
@@ -91,11 +99,32 @@ public class ArticleMapperTest {
 
 	@Test
 	public void testMapToStatusEditingAndVersion_ValidArticle() {
-		ArticleStatusEditingAndVersionDto dto = articleMapper.mapToStatusEditingAndVersion(article);
+		ArticleEditorAndVersion editorAndVersion = new ArticleEditorAndVersion() {
+			@Override
+			public String getEditedBy() {
+				return "testUser";
+			}
+
+			@Override
+			public Integer getVersion() {
+				return 1;
+			}
+		};
+
+		ArticleStatusEditingAndVersionDto dto = articleMapper.mapToStatusEditingAndVersion(editorAndVersion);
 
 		assertThat(dto).isNotNull();
 		assertThat(dto.getEditedBy()).isEqualTo("testUser");
 		assertThat(dto.getVersion()).isEqualTo(1);
 	}
 
+	@Test
+	public void testMapToSuggestionDtoList_ValidList() {
+		List<ArticleSuggestionDto> dtos = articleMapper.mapToSuggestionDtoList(List.of(new ArticleTitle("test-id", "Test Title")));
+
+		assertThat(dtos).hasSize(1);
+		assertThat(dtos.get(0).getPublicId()).isEqualTo("test-id");
+		assertThat(dtos.get(0).getTitle()).isEqualTo("Test Title");
+	}
+
 }
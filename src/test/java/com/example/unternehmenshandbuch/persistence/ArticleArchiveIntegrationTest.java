@@ -0,0 +1,125 @@
+package com.example.unternehmenshandbuch.persistence;
+
+import com.example.unternehmenshandbuch.model.ArchivedArticle;
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.model.ArticleBody;
+import com.example.unternehmenshandbuch.model.ArticleHead;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleSummary;
+import com.example.unternehmenshandbuch.service.ArticleArchiveJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+public class ArticleArchiveIntegrationTest {
+
+    private static final String CONTENT = "Section about travel expenses, receipts and approval limits. ".repeat(40);
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleBodyRepository articleBodyRepository;
+
+    @Autowired
+    private ArticleHeadRepository articleHeadRepository;
+
+    @Autowired
+    private ArchivedArticleRepository archivedArticleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private ArticleArchiveJob articleArchiveJob;
+
+    @BeforeEach
+    public void setup() {
+        articleArchiveJob = new ArticleArchiveJob(articleRepository, archivedArticleRepository, transactionManager, 3, 2);
+    }
+
+    @Test
+    public void testArchiveSupersededVersions_KeepsLatestVersionsPerPublicId() {
+        Article head = null;
+        for (int version = 1; version <= 6; version++) {
+            head = save(article("travel", version, Article.ArticleStatus.APPROVED));
+        }
+        articleHeadRepository.save(new ArticleHead("travel", head.getId(), 6));
+        save(article("travel", 6, Article.ArticleStatus.EDITING));
+        for (int version = 1; version <= 3; version++) {
+            save(article("other", version, Article.ArticleStatus.APPROVED));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        int archived = articleArchiveJob.archiveSupersededVersions();
+
+        assertThat(archived).isEqualTo(3);
+        assertThat(articleRepository.findAllApprovedArticlesByPublicId("travel", Article.ArticleStatus.APPROVED))
+                .extracting(ArticleSummary::version).containsExactlyInAnyOrder(4, 5, 6);
+        assertThat(articleRepository.findAllApprovedArticlesByPublicId("other", Article.ArticleStatus.APPROVED)).hasSize(3);
+        assertThat(articleRepository.findByPublicIdAndStatus("travel", Article.ArticleStatus.EDITING)).isNotNull();
+        assertThat(archivedArticleRepository.findSummariesByPublicId("travel"))
+                .extracting(ArticleSummary::version).containsExactly(1, 2, 3);
+        assertThat(articleArchiveJob.archiveSupersededVersions()).isZero();
+    }
+
+    @Test
+    public void testArchivedArticle_StoresCompressedContent() {
+        Article article = save(article("travel", 1, Article.ArticleStatus.APPROVED));
+        entityManager.flush();
+        archivedArticleRepository.save(ArchivedArticle.of(article));
+        entityManager.flush();
+        entityManager.clear();
+
+        ArchivedArticle archived = archivedArticleRepository.findFirstByPublicIdAndVersionOrderByIdDesc("travel", 1).orElseThrow();
+
+        assertThat(archived.getCompressedContent().length).isLessThan(CONTENT.length() / 10);
+        assertThat(archived.getArchivedAt()).isNotNull();
+        assertThat(archived.toArticle().getContent()).isEqualTo(article.getContent());
+        assertThat(archived.toArticle().getContentHash()).isEqualTo(article.getContentHash());
+    }
+
+    @Test
+    public void testArchiveSupersededVersions_LeavesBodiesForCleanup() {
+        Article head = null;
+        for (int version = 1; version <= 4; version++) {
+            head = save(article("travel", version, Article.ArticleStatus.APPROVED));
+        }
+        articleHeadRepository.save(new ArticleHead("travel", head.getId(), 4));
+        entityManager.flush();
+        entityManager.clear();
+
+        articleArchiveJob.archiveSupersededVersions();
+
+        assertThat(articleBodyRepository.deleteUnreferencedCreatedBefore(Instant.now().plusSeconds(60))).isEqualTo(1);
+    }
+
+    private static Article article(String publicId, int version, Article.ArticleStatus status) {
+        return Article.builder()
+                .publicId(publicId)
+                .title("Travel policy " + version)
+                .description("Description")
+                .content(CONTENT + publicId + " " + status + " " + version)
+                .version(version)
+                .status(status)
+                .editedBy("User1")
+                .isEditable(true)
+                .isSubmitted(false)
+                .build();
+    }
+
+    private Article save(Article article) {
+        article.setBody(articleBodyRepository.save(new ArticleBody(article.getContentHash(), article.getContent())));
+        return articleRepository.save(article);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.unternehmenshandbuch.persistence;
+
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.model.ArticleBody;
+import com.example.unternehmenshandbuch.model.ArticleHead;
+import com.example.unternehmenshandbuch.service.ArticleDeltaStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+public class ArticleBodyDeltaIntegrationTest {
+
+    private static final String CONTENT = "Section about remote work, equipment and working hours. ".repeat(40);
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleBodyRepository articleBodyRepository;
+
+    @Autowired
+    private ArticleHeadRepository articleHeadRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private ArticleDeltaStorage articleDeltaStorage;
+
+    @BeforeEach
+    public void setup() {
+        articleDeltaStorage = new ArticleDeltaStorage(articleBodyRepository, entityManager.getEntityManager(), true, 3);
+    }
+
+    @Test
+    public void testStorePreviousAsDelta_ReconstructsOlderVersions() {
+        Article version1 = approve(1, CONTENT, null);
+        Article version2 = approve(2, CONTENT.replaceFirst("equipment", "laptops"), version1);
+        Article version3 = approve(3, CONTENT.replaceFirst("working hours", "core hours"), version2);
+        entityManager.flush();
+        entityManager.clear();
+
+        ArticleBody body1 = articleBodyRepository.findById(version1.getContentHash()).orElseThrow();
+        ArticleBody body2 = articleBodyRepository.findById(version2.getContentHash()).orElseThrow();
+        ArticleBody body3 = articleBodyRepository.findById(version3.getContentHash()).orElseThrow();
+
+        assertThat(body1.isDelta()).isTrue();
+        assertThat(body2.isDelta()).isTrue();
+        assertThat(body3.isDelta()).isFalse();
+        assertThat(body1.getStoredContent().length()).isLessThan(CONTENT.length() / 10);
+        assertThat(articleRepository.findByPublicIdAndVersion("delta", 1).orElseThrow().getContent()).isEqualTo(CONTENT);
+        assertThat(articleRepository.findByPublicIdAndVersion("delta", 2).orElseThrow().getContent()).isEqualTo(CONTENT.replaceFirst("equipment", "laptops"));
+    }
+
+    @Test
+    public void testStorePreviousAsDelta_KeepsKeyframesByChainDepth() {
+        Article version1 = approve(1, CONTENT, null);
+        Article version2 = approve(2, CONTENT.replaceFirst("equipment", "laptops"), version1);
+        Article version4 = approve(4, CONTENT.replaceFirst("working hours", "core hours"), version2);
+        Article version5 = approve(5, CONTENT.replaceFirst("remote work", "hybrid work"), version4);
+        Article version7 = approve(7, CONTENT.replaceFirst("Section", "Chapter"), version5);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(articleBodyRepository.findById(version2.getContentHash()).orElseThrow().isDelta()).isTrue();
+        assertThat(articleBodyRepository.findById(version4.getContentHash()).orElseThrow().isDelta()).isFalse();
+        assertThat(articleBodyRepository.findById(version5.getContentHash()).orElseThrow().isDelta()).isTrue();
+        assertThat(articleBodyRepository.findById(version7.getContentHash()).orElseThrow().isDelta()).isFalse();
+        assertThat(articleRepository.findByPublicIdAndVersion("delta", 1).orElseThrow().getContent()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void testStorePreviousAsDelta_MaterializesRevertedContent() {
+        Article version1 = approve(1, CONTENT, null);
+        Article version2 = approve(2, CONTENT.replaceFirst("equipment", "laptops"), version1);
+        Article version4 = approve(4, CONTENT, version2);
+        entityManager.flush();
+        entityManager.clear();
+
+        ArticleBody latest = articleBodyRepository.findById(version4.getContentHash()).orElseThrow();
+        ArticleBody previous = articleBodyRepository.findById(version2.getContentHash()).orElseThrow();
+
+        assertThat(latest.isDelta()).isFalse();
+        assertThat(previous.getBaseHash()).isEqualTo(latest.getHash());
+        assertThat(previous.getContent()).isEqualTo(CONTENT.replaceFirst("equipment", "laptops"));
+    }
+
+    @Test
+    public void testStorePreviousAsDelta_NeverEncodesHeadBody() {
+        Article otherHead = approve("other", 1, CONTENT, null);
+        articleHeadRepository.save(new ArticleHead("other", otherHead.getId(), 1));
+        Article version1 = approve(1, CONTENT, null);
+        approve(2, CONTENT.replaceFirst("equipment", "laptops"), version1);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(articleBodyRepository.findById(otherHead.getContentHash()).orElseThrow().isDelta()).isFalse();
+    }
+
+    @Test
+    public void testDeleteUnreferencedCreatedBefore_KeepsDeltaBases() {
+        Article version1 = approve(1, CONTENT, null);
+        Article version2 = approve(2, CONTENT.replaceFirst("equipment", "laptops"), version1);
+        articleRepository.delete(version2);
+        entityManager.flush();
+
+        articleBodyRepository.deleteUnreferencedCreatedBefore(Instant.now().plusSeconds(60));
+
+        assertThat(articleBodyRepository.existsById(version2.getContentHash())).isTrue();
+    }
+
+    private Article approve(int version, String content, Article previous) {
+        return approve("delta", version, content, previous);
+    }
+
+    private Article approve(String publicId, int version, String content, Article previous) {
+        Article article = Article.builder()
+                .publicId(publicId)
+                .title("Title")
+                .description("Description")
+                .content(content)
+                .version(version)
+                .status(Article.ArticleStatus.APPROVED)
+                .editedBy("User1")
+                .isEditable(true)
+                .isSubmitted(false)
+                .build();
+        if (!articleBodyRepository.existsById(article.getContentHash())) {
+            article.setBody(articleBodyRepository.save(new ArticleBody(article.getContentHash(), content)));
+        }
+        Article saved = articleRepository.save(article);
+        entityManager.flush();
+        articleDeltaStorage.storePreviousAsDelta(previous, saved);
+        return saved;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.unternehmenshandbuch.persistence;
+
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.model.ArticleBody;
+import com.example.unternehmenshandbuch.service.ArticleDeltaStorage;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@DataJpaTest
+public class ArticleDeltaStorageBenchmarkTest {
+
+    private static final int VERSIONS = 100;
+    private static final int EDITS_PER_VERSION = 3;
+    private static final int[] KEYFRAME_INTERVALS = {1, 5, 10, 25, 50};
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleBodyRepository articleBodyRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    public void benchmarkReconstructionLatencyAgainstStorage() {
+        List<String> history = syntheticHistory();
+        long fullBytes = history.stream().mapToLong(String::length).sum();
+
+        System.out.printf("%-10s %14s %14s %10s %12s %12s%n", "keyframe", "full chars", "stored chars", "saved", "mean ms", "max ms");
+        for (int interval : KEYFRAME_INTERVALS) {
+            String publicId = "bench-" + interval;
+            ArticleDeltaStorage storage = new ArticleDeltaStorage(articleBodyRepository, entityManager.getEntityManager(), true, interval);
+
+            List<String> hashes = new ArrayList<>();
+            Article previous = null;
+            for (int version = 1; version <= VERSIONS; version++) {
+                Article article = approve(publicId, version, history.get(version - 1));
+                storage.storePreviousAsDelta(previous, article);
+                hashes.add(article.getContentHash());
+                previous = article;
+            }
+            entityManager.flush();
+            entityManager.clear();
+
+            long storedBytes = hashes.stream()
+                    .map(hash -> articleBodyRepository.findById(hash).orElseThrow())
+                    .mapToLong(body -> body.getStoredContent().length())
+                    .sum();
+            entityManager.clear();
+
+            long total = 0;
+            long max = 0;
+            for (int version = 1; version <= VERSIONS; version++) {
+                long start = System.nanoTime();
+                String content = articleRepository.findByPublicIdAndVersion(publicId, version).orElseThrow().getContent();
+                long duration = System.nanoTime() - start;
+                entityManager.clear();
+
+                assertThat(content).isEqualTo(history.get(version - 1));
+                total += duration;
+                max = Math.max(max, duration);
+            }
+
+            System.out.printf("%-10d %14d %14d %9.1f%% %12.3f %12.3f%n", interval, fullBytes, storedBytes,
+                    100d * (fullBytes - storedBytes) / fullBytes, total / (double) VERSIONS / 1_000_000d, max / 1_000_000d);
+        }
+    }
+
+    private Article approve(String publicId, int version, String content) {
+        Article article = Article.builder()
+                .publicId(publicId)
+                .title("Title")
+                .description("Description")
+                .content(content)
+                .version(version)
+                .status(Article.ArticleStatus.APPROVED)
+                .editedBy("bench-editor")
+                .isEditable(false)
+                .isSubmitted(false)
+                .build();
+        if (!articleBodyRepository.existsById(article.getContentHash())) {
+            article.setBody(articleBodyRepository.save(new ArticleBody(article.getContentHash(), content)));
+        }
+        Article saved = articleRepository.save(article);
+        entityManager.flush();
+        return saved;
+    }
+
+    private static List<String> syntheticHistory() {
+        Random random = new Random(42);
+        StringBuilder document = new StringBuilder();
+        while (document.length() < 16 * 1024) {
+            document.append("Paragraph ").append(random.nextInt(10_000)).append(": employees follow the documented process. ");
+        }
+
+        List<String> history = new ArrayList<>();
+        history.add(document.toString());
+        for (int version = 2; version <= VERSIONS; version++) {
+            for (int edit = 0; edit < EDITS_PER_VERSION; edit++) {
+                int position = random.nextInt(document.length() - 20);
+                document.replace(position, position + random.nextInt(20), "edit " + version + "." + edit + " ");
+            }
+            history.add(document.toString());
+        }
+        return history;
+    }
+}
@@ -1,11 +1,20 @@
 package com.example.unternehmenshandbuch.persistence;
 
 import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.model.ArticleBody;
+import com.example.unternehmenshandbuch.model.ArticleHead;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleEditorAndVersion;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleSummary;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -16,6 +25,15 @@ public class ArticleRepositoryIntegrationTest {
 	@Autowired
 	private ArticleRepository articleRepository;
 
+	@Autowired
+	private ArticleBodyRepository articleBodyRepository;
+
+	@Autowired
+	private ArticleHeadRepository articleHeadRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
 	private Article article1;
 
 	@BeforeEach
@@ -42,8 +60,8 @@ public class ArticleRepositoryIntegrationTest {
 				.editedBy("User2")
 				.build();
 
-		article1 = articleRepository.save(article1);
-		articleRepository.save(article2);
+		article1 = save(article1);
+		save(article2);
 
 		Article article1Version2 = Article.builder()
 				.publicId("1")
@@ -55,7 +73,7 @@ public class ArticleRepositoryIntegrationTest {
 				.editedBy("User1")
 				.build();
 
-		articleRepository.save(article1Version2);
+		save(article1Version2);
 	}
 
 	@Test
@@ -70,7 +88,7 @@ public class ArticleRepositoryIntegrationTest {
 				.editedBy("User3")
 				.build();
 
-		Article savedArticle = articleRepository.save(article);
+		Article savedArticle = save(article);
 
 		assertThat(savedArticle.getId()).isNotNull();
 		assertThat(savedArticle.getTitle()).isEqualTo("New Title");
@@ -108,8 +126,183 @@ public class ArticleRepositoryIntegrationTest {
 	@Test
 	public void testUpdateArticle() {
 		article1.setTitle("Updated Title");
-		Article updatedArticle = articleRepository.save(article1);
+		Article updatedArticle = save(article1);
 
 		assertThat(updatedArticle.getTitle()).isEqualTo("Updated Title");
 	}
+
+	@Test
+	public void testFindPageByStatus_KeysetContinuesAfterCursor() {
+		for (int i = 0; i < 5; i++) {
+			save(Article.builder()
+					.publicId("submitted-" + i)
+					.title("Submitted " + i)
+					.description("Description")
+					.content("Content")
+					.version(1)
+					.status(Article.ArticleStatus.SUBMITTED)
+					.editedBy("User1")
+					.build());
+		}
+
+		List<ArticleSummary> firstPage = articleRepository.findPageByStatus(Article.ArticleStatus.SUBMITTED, PageRequest.ofSize(3));
+		ArticleSummary last = firstPage.get(firstPage.size() - 1);
+		List<ArticleSummary> secondPage = articleRepository.findPageByStatusAfter(Article.ArticleStatus.SUBMITTED, last.createdAt(), last.id(), PageRequest.ofSize(3));
+
+		assertThat(firstPage).hasSize(3);
+		assertThat(secondPage).hasSize(2);
+		assertThat(secondPage).extracting(ArticleSummary::id).doesNotContainAnyElementsOf(firstPage.stream().map(ArticleSummary::id).toList());
+	}
+
+	@Test
+	public void testGetEditedByWithStatusEditingAndVersion_ReturnsProjection() {
+		save(Article.builder()
+				.publicId("2")
+				.title("Title")
+				.description("Description")
+				.content("Content")
+				.version(3)
+				.status(Article.ArticleStatus.EDITING)
+				.editedBy("User2")
+				.build());
+
+		ArticleEditorAndVersion editorAndVersion = articleRepository.getEditedByWithStatusEditingAndVersion("2");
+
+		assertThat(editorAndVersion.getEditedBy()).isEqualTo("User2");
+		assertThat(editorAndVersion.getVersion()).isEqualTo(3);
+	}
+
+	@Test
+	public void testStatusChange_DoesNotLoadBody() {
+		entityManager.flush();
+		entityManager.clear();
+
+		Article article = articleRepository.findById(article1.getId()).orElseThrow();
+		article.setStatus(Article.ArticleStatus.SUBMITTED);
+		article.setIsSubmitted(true);
+		articleRepository.saveAndFlush(article);
+
+		assertThat(Hibernate.isInitialized(article.getBody())).isFalse();
+		assertThat(article.getContent()).isEqualTo("Content1");
+	}
+
+	@Test
+	public void testSaveArticlesWithSameContent_StoresBodyOnce() {
+		Article copy = save(Article.builder()
+				.publicId("3")
+				.title("Other Title")
+				.description("Other Description")
+				.content("Content1")
+				.version(2)
+				.status(Article.ArticleStatus.EDITING)
+				.editedBy("User1")
+				.build());
+
+		assertThat(copy.getContentHash()).isEqualTo(article1.getContentHash());
+		assertThat(articleBodyRepository.count()).isEqualTo(3);
+	}
+
+	@Test
+	public void testDeleteUnreferencedCreatedBefore_RemovesOnlyOrphans() {
+		articleBodyRepository.save(new ArticleBody("orphan", "Orphaned content"));
+		entityManager.flush();
+
+		int deleted = articleBodyRepository.deleteUnreferencedCreatedBefore(Instant.now().plusSeconds(60));
+
+		assertThat(deleted).isEqualTo(1);
+		assertThat(articleBodyRepository.existsById("orphan")).isFalse();
+		assertThat(articleBodyRepository.existsById(article1.getContentHash())).isTrue();
+	}
+
+	@Test
+	public void testFindLatestApprovedArticleByPublicId_ReadsHead() {
+		Article approvedV1 = save(approved("4", 1));
+		Article approvedV2 = save(approved("4", 2));
+		articleHeadRepository.save(new ArticleHead("4", approvedV1.getId(), 1));
+
+		assertThat(articleRepository.findLatestApprovedArticleByPublicId("4")).map(Article::getId).contains(approvedV1.getId());
+
+		articleHeadRepository.save(new ArticleHead("4", approvedV2.getId(), 2));
+
+		assertThat(articleRepository.findLatestApprovedArticleByPublicId("4")).map(Article::getId).contains(approvedV2.getId());
+		assertThat(articleRepository.findLatestApprovedArticleByPublicId("5")).isEmpty();
+	}
+
+	@Test
+	public void testFindAllLatestApproved_ListsOnlyHeads() {
+		save(approved("4", 1));
+		Article approvedV2 = save(approved("4", 2));
+		Article otherApproved = save(approved("5", 1));
+		articleHeadRepository.save(new ArticleHead("4", approvedV2.getId(), 2));
+		articleHeadRepository.save(new ArticleHead("5", otherApproved.getId(), 1));
+
+		List<ArticleSummary> latest = articleRepository.findAllLatestApproved();
+
+		assertThat(latest).extracting(ArticleSummary::id).containsExactlyInAnyOrder(approvedV2.getId(), otherApproved.getId());
+	}
+
+	@Test
+	public void testApproveSubmitted_UpdatesOnlySubmittedRowsAndHeads() {
+		Article approvedV1 = save(approved("4", 1));
+		articleHeadRepository.save(new ArticleHead("4", approvedV1.getId(), 1));
+		Article submitted4 = save(submitted("4", 1));
+		Article submitted5 = save(submitted("5", 0));
+		Article editing = save(approved("6", 1));
+		editing.setStatus(Article.ArticleStatus.EDITING);
+		entityManager.flush();
+
+		List<Long> ids = List.of(submitted4.getId(), submitted5.getId(), editing.getId());
+		int updated = articleRepository.approveSubmitted(ids);
+		articleHeadRepository.moveToArticles(ids);
+		articleHeadRepository.insertForArticles(ids);
+
+		assertThat(updated).isEqualTo(2);
+		assertThat(articleRepository.findById(submitted4.getId()).orElseThrow().getStatus()).isEqualTo(Article.ArticleStatus.APPROVED);
+		assertThat(articleRepository.findById(submitted4.getId()).orElseThrow().getVersion()).isEqualTo(2);
+		assertThat(articleRepository.findById(editing.getId()).orElseThrow().getStatus()).isEqualTo(Article.ArticleStatus.EDITING);
+		assertThat(articleHeadRepository.findById("4").orElseThrow()).isEqualTo(new ArticleHead("4", submitted4.getId(), 2));
+		assertThat(articleHeadRepository.findById("5").orElseThrow()).isEqualTo(new ArticleHead("5", submitted5.getId(), 1));
+		assertThat(articleHeadRepository.findById("6")).isEmpty();
+	}
+
+	@Test
+	public void testDeclineSubmitted_UpdatesOnlySubmittedRows() {
+		Article submitted4 = save(submitted("4", 1));
+		Article approved5 = save(approved("5", 1));
+		entityManager.flush();
+
+		int updated = articleRepository.declineSubmitted(List.of(submitted4.getId(), approved5.getId()), "Reason");
+
+		Article declined = articleRepository.findById(submitted4.getId()).orElseThrow();
+		assertThat(updated).isEqualTo(1);
+		assertThat(declined.getStatus()).isEqualTo(Article.ArticleStatus.EDITING);
+		assertThat(declined.getDenyText()).isEqualTo("Reason");
+		assertThat(articleRepository.findById(approved5.getId()).orElseThrow().getDenyText()).isNull();
+	}
+
+	private static Article submitted(String publicId, int version) {
+		Article article = approved(publicId, version);
+		article.setStatus(Article.ArticleStatus.SUBMITTED);
+		article.setIsSubmitted(true);
+		return article;
+	}
+
+	private static Article approved(String publicId, int version) {
+		return Article.builder()
+				.publicId(publicId)
+				.title("Approved " + version)
+				.description("Description")
+				.content("Approved content " + version)
+				.version(version)
+				.status(Article.ArticleStatus.APPROVED)
+				.editedBy("User1")
+				.build();
+	}
+
+	private Article save(Article article) {
+		if (!articleBodyRepository.existsById(article.getContentHash())) {
+			article.setBody(articleBodyRepository.save(new ArticleBody(article.getContentHash(), article.getContent())));
+		}
+		return articleRepository.save(article);
+	}
 }
@@ -0,0 +1,313 @@
+package com.example.unternehmenshandbuch.persistence;
+
+import com.example.unternehmenshandbuch.model.AppUser;
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.model.ArticleBody;
+import com.example.unternehmenshandbuch.model.ArticleHead;
+import com.example.unternehmenshandbuch.support.EmbeddedPostgresTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ArticleRepositoryQueryPlanTest extends EmbeddedPostgresTest {
+
+    private static final int PUBLIC_IDS = 200;
+
+    private static final String ACTIVE = "articles_active";
+
+    private static final String APPROVED = "articles_approved";
+
+    private static final List<CapturedStatement> capturedStatements = new ArrayList<>();
+
+    private static volatile boolean capturing;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleBodyRepository articleBodyRepository;
+
+    @Autowired
+    private ArticleHeadRepository articleHeadRepository;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setup() {
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < PUBLIC_IDS; i++) {
+            for (int version = 1; version <= 3; version++) {
+                articles.add(article("public-" + i, version, Article.ArticleStatus.APPROVED));
+            }
+            articles.add(article("public-" + i, 4, i % 2 == 0 ? Article.ArticleStatus.SUBMITTED : Article.ArticleStatus.EDITING));
+        }
+        articleBodyRepository.saveAll(articles.stream().map(a -> new ArticleBody(a.getContentHash(), a.getContent())).toList());
+        articleRepository.saveAll(articles);
+        articleRepository.flush();
+        articleHeadRepository.saveAll(articles.stream()
+                .filter(a -> a.getVersion() == 3)
+                .map(a -> new ArticleHead(a.getPublicId(), a.getId(), a.getVersion()))
+                .toList());
+
+        for (int i = 0; i < PUBLIC_IDS; i++) {
+            AppUser user = new AppUser();
+            user.setUsername("user-" + i);
+            user.setPassword("password");
+            user.setRole("USER");
+            appUserRepository.save(user);
+        }
+        articleRepository.flush();
+        jdbcTemplate.execute("ANALYZE");
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    public void testFindFirstByPublicId_UsesIndex() {
+        assertIndexScan(() -> articleRepository.findFirstByPublicId("public-1"), ACTIVE, APPROVED);
+    }
+
+    @Test
+    public void testFindByPublicIdAndVersion_UsesIndex() {
+        assertIndexScan(() -> articleRepository.findByPublicIdAndVersion("public-1", 1), ACTIVE, APPROVED);
+    }
+
+    @Test
+    public void testFindAllByStatus_UsesIndex() {
+        assertIndexScan(() -> articleRepository.findAllByStatus(Article.ArticleStatus.SUBMITTED), ACTIVE);
+    }
+
+    @Test
+    public void testFindPageByStatus_UsesIndex() {
+        assertIndexScan(() -> articleRepository.findPageByStatus(Article.ArticleStatus.APPROVED, PageRequest.ofSize(20)), APPROVED);
+    }
+
+    @Test
+    public void testFindPageByStatusAfter_UsesIndex() {
+        assertIndexScan(() -> articleRepository.findPageByStatusAfter(Article.ArticleStatus.APPROVED, Instant.now(), 1L, PageRequest.ofSize(20)), APPROVED);
+    }
+
+    @Test
+    public void testFindFirstByPublicIdOrderByVersionDesc_UsesIndex() {
+        assertIndexScan(() -> articleRepository.findFirstByPublicIdOrderByVersionDesc("public-1"), ACTIVE, APPROVED);
+    }
+
+    @Test
+    public void testFindByEditedByAndStatus_UsesIndex() {
+        assertIndexScan(() -> articleRepository.findByEditedByAndStatus("editor-1", Article.ArticleStatus.EDITING), ACTIVE);
+    }
+
+    @Test
+    public void testFindByPublicIdAndStatus_UsesIndex() {
+        assertIndexScan(() -> articleRepository.findByPublicIdAndStatus("public-0", Article.ArticleStatus.SUBMITTED), ACTIVE);
+    }
+
+    @Test
+    public void testFindByPublicIdAndStatusAndIsEditableTrue_UsesIndex() {
+        assertIndexScan(() -> articleRepository.findByPublicIdAndStatusAndIsEditableTrue("public-0", Article.ArticleStatus.SUBMITTED), ACTIVE);
+    }
+
+    @Test
+    public void testFindLatestApprovedArticleByPublicId_UsesIndex() {
+        assertIndexScan(() -> articleRepository.findLatestApprovedArticleByPublicId("public-1"), ACTIVE, APPROVED);
+    }
+
+    @Test
+    public void testFindAllApprovedArticlesByPublicId_UsesIndex() {
+        assertIndexScan(() -> articleRepository.findAllApprovedArticlesByPublicId("public-1", Article.ArticleStatus.APPROVED), APPROVED);
+    }
+
+    @Test
+    public void testFindArticleByPublicIdAndVersionAndStatus_UsesIndex() {
+        assertIndexScan(() -> articleRepository.findArticleByPublicIdAndVersionAndStatus("public-1", 1, Article.ArticleStatus.APPROVED), APPROVED);
+    }
+
+    @Test
+    public void testGetEditedByWithStatusEditingAndVersion_UsesIndex() {
+        assertIndexScan(() -> articleRepository.getEditedByWithStatusEditingAndVersion("public-1"), ACTIVE);
+    }
+
+    @Test
+    public void testFindByUsername_UsesIndex() {
+        assertIndexScan(() -> appUserRepository.findByUsername("user-1"));
+    }
+
+    @Test
+    public void testListAndMetadataQueries_DoNotReadContent() {
+        assertNoContentColumn(() -> articleRepository.findAllByStatus(Article.ArticleStatus.APPROVED));
+        assertNoContentColumn(() -> articleRepository.findAllLatestApproved());
+        assertNoContentColumn(() -> articleRepository.findPageByStatus(Article.ArticleStatus.APPROVED, PageRequest.ofSize(20)));
+        assertNoContentColumn(() -> articleRepository.findPageByStatusAfter(Article.ArticleStatus.APPROVED, Instant.now(), 1L, PageRequest.ofSize(20)));
+        assertNoContentColumn(() -> articleRepository.findByEditedByAndStatus("editor-1", Article.ArticleStatus.EDITING));
+        assertNoContentColumn(() -> articleRepository.findAllApprovedArticlesByPublicId("public-1", Article.ArticleStatus.APPROVED));
+        assertNoContentColumn(() -> articleRepository.getEditedByWithStatusEditingAndVersion("public-1"));
+    }
+
+    private void assertNoContentColumn(Runnable query) {
+        List<CapturedStatement> statements = capture(query);
+
+        assertThat(statements).isNotEmpty();
+        assertThat(statements).noneMatch(statement -> statement.sql().toLowerCase().contains("content"));
+    }
+
+    private void assertIndexScan(Runnable query, String... partitions) {
+        List<CapturedStatement> statements = capture(query);
+
+        assertThat(statements).isNotEmpty();
+        for (CapturedStatement statement : statements) {
+            String plan = explain(statement);
+            assertThat(plan)
+                    .as("Query plan for %s", statement.sql())
+                    .contains("Index")
+                    .doesNotContain("Seq Scan");
+            for (String partition : List.of(ACTIVE, APPROVED)) {
+                if (Arrays.asList(partitions).contains(partition)) {
+                    assertThat(plan).as("Query plan for %s", statement.sql()).contains(partition);
+                } else {
+                    assertThat(plan).as("Query plan for %s", statement.sql()).doesNotContain(partition);
+                }
+            }
+        }
+    }
+
+    private List<CapturedStatement> capture(Runnable query) {
+        synchronized (capturedStatements) {
+            capturedStatements.clear();
+        }
+        capturing = true;
+        try {
+            query.run();
+        } finally {
+            capturing = false;
+        }
+        synchronized (capturedStatements) {
+            return List.copyOf(capturedStatements);
+        }
+    }
+
+    private String explain(CapturedStatement statement) {
+        return String.join("\n", jdbcTemplate.query(connection -> {
+            PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql());
+            for (Binding binding : statement.bindings()) {
+                try {
+                    binding.method().invoke(explain, binding.args());
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new SQLException(e);
+                }
+            }
+            return explain;
+        }, (rs, rowNum) -> rs.getString(1)));
+    }
+
+    private static Article article(String publicId, int version, Article.ArticleStatus status) {
+        return Article.builder()
+                .publicId(publicId)
+                .title("Title " + publicId)
+                .description("Description " + publicId)
+                .content("Content " + publicId + " v" + version)
+                .version(version)
+                .status(status)
+                .editedBy("editor-" + (version % 5))
+                .isEditable(status == Article.ArticleStatus.APPROVED)
+                .isSubmitted(status == Article.ArticleStatus.SUBMITTED)
+                .build();
+    }
+
+    private record Binding(Method method, Object[] args) {
+    }
+
+    private record CapturedStatement(String sql, List<Binding> bindings) {
+    }
+
+    @TestConfiguration
+    static class CapturingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                    return bean instanceof DataSource dataSource ? new CapturingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    static class CapturingDataSource extends DelegatingDataSource {
+
+        CapturingDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return capturing(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return capturing(super.getConnection(username, password));
+        }
+
+        private static Connection capturing(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (method.getName().equals("prepareStatement") && args[0] instanceof String sql
+                        && sql.trim().toLowerCase().startsWith("select")) {
+                    return capturing((PreparedStatement) result, sql);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+            List<Binding> bindings = new ArrayList<>();
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    bindings.add(new Binding(method, args.clone()));
+                } else if (capturing && method.getName().startsWith("execute")) {
+                    synchronized (capturedStatements) {
+                        capturedStatements.add(new CapturedStatement(sql, List.copyOf(bindings)));
+                    }
+                }
+                return invoke(statement, method, args);
+            });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
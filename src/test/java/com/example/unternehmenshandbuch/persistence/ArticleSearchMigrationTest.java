@@ -0,0 +1,114 @@
+package com.example.unternehmenshandbuch.persistence;
+
+import com.example.unternehmenshandbuch.service.PostgresArticleSearchService;
+import com.example.unternehmenshandbuch.service.dto.ArticleSearchPage;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("postgres")
+public class ArticleSearchMigrationTest {
+
+    private static EmbeddedPostgres postgres;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    public static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        Flyway.configure().dataSource(postgres.getPostgresDatabase()).locations("classpath:db/migration").load().migrate();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+    }
+
+    @AfterAll
+    public static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        jdbcTemplate.execute("TRUNCATE article_search, article_head, articles, article_body");
+    }
+
+    @Test
+    public void testHeadInsert_IndexesFullBody() {
+        body("full", "Urlaubsantrag rechtzeitig stellen", null);
+        long id = article("vacation", "full");
+
+        head("vacation", id);
+
+        assertThat(search("urlaubsantrag")).containsExactly("vacation");
+    }
+
+    @Test
+    public void testHeadInsert_SkipsDeltaBodyUntilMaterialized() {
+        body("base", "Unrelated base content", null);
+        body("delta", "=5+3garbled delta ops", "base");
+        long id = article("remote", "delta");
+
+        head("remote", id);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM article_search", Integer.class)).isZero();
+
+        jdbcTemplate.update("UPDATE article_body SET content = 'Homeoffice Regelung und Ausstattung', base_hash = NULL WHERE hash = 'delta'");
+
+        assertThat(search("homeoffice")).containsExactly("remote");
+        assertThat(jdbcTemplate.queryForObject("SELECT content FROM article_search WHERE public_id = 'remote'", String.class))
+                .isEqualTo("Homeoffice Regelung und Ausstattung");
+    }
+
+    @Test
+    public void testBodyEncodedAsDelta_KeepsIndexedContent() {
+        body("newer", "Neue Fassung der Reisekostenrichtlinie", null);
+        body("older", "Reisekosten werden monatlich abgerechnet", null);
+        long id = article("travel", "older");
+        head("travel", id);
+
+        jdbcTemplate.update("UPDATE article_body SET content = '=12+4delta', base_hash = 'newer' WHERE hash = 'older'");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT content FROM article_search WHERE public_id = 'travel'", String.class))
+                .isEqualTo("Reisekosten werden monatlich abgerechnet");
+    }
+
+    @Test
+    public void testSearchService_EscapesMarkupInSnippets() {
+        body("markup", "Reisekosten <script>alert('x')</script> unter 100 <b & \"<img src=x onerror=alert(1)\"> erstattet", null);
+        head("markup", article("markup", "markup"));
+
+        ArticleSearchPage page = new PostgresArticleSearchService(new NamedParameterJdbcTemplate(jdbcTemplate)).search("Reisekosten", 0, 10);
+
+        assertThat(page.getHits()).hasSize(1);
+        String snippet = page.getHits().get(0).getSnippet();
+        assertThat(snippet).contains("<mark>Reisekosten</mark>").contains("&#39;x&#39;");
+        assertThat(snippet.replace("<mark>", "").replace("</mark>", "")).doesNotContain("<", ">");
+    }
+
+    private static void body(String hash, String content, String baseHash) {
+        jdbcTemplate.update("INSERT INTO article_body (hash, content, base_hash, created_at) VALUES (?, ?, ?, now())", hash, content, baseHash);
+    }
+
+    private static long article(String publicId, String contentHash) {
+        return jdbcTemplate.queryForObject("INSERT INTO articles (public_id, description, title, content_hash, version, status, "
+                + "is_editable, is_submitted, created_at) VALUES (?, 'Description', 'Title', ?, 1, 'APPROVED', true, false, now()) RETURNING id",
+                Long.class, publicId, contentHash);
+    }
+
+    private static void head(String publicId, long articleId) {
+        jdbcTemplate.update("INSERT INTO article_head (public_id, approved_article_id, version) VALUES (?, ?, 1)", publicId, articleId);
+    }
+
+    private static List<String> search(String query) {
+        return jdbcTemplate.queryForList("SELECT public_id FROM article_search WHERE document @@ websearch_to_tsquery('german', ?)", String.class, query);
+    }
+}
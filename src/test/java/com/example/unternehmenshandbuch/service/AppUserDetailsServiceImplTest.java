@@ -46,6 +46,19 @@ class AppUserDetailsServiceImplTest {
 						   .anyMatch(auth -> auth.getAuthority().equals("ROLE_USER")));
 	}
 
+	@Test
+	void loadUserByUsername_CarriesTokenVersion() {
+		AppUser appUser = new AppUser();
+		appUser.setUsername("testuser");
+		appUser.setPassword("password");
+		appUser.setTokenVersion(4);
+		when(repository.findByUsername("testuser")).thenReturn(Optional.of(appUser));
+
+		UserDetails userDetails = userDetailsService.loadUserByUsername("testuser");
+
+		assertEquals(4, ((AppUserDetails) userDetails).getTokenVersion());
+	}
+
 	@Test
 	void loadUserByUsername_UserDoesNotExist() {
 
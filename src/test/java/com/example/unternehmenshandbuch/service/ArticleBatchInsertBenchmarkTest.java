@@ -0,0 +1,100 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.persistence.ArticleBodyRepository;
+import com.example.unternehmenshandbuch.persistence.ArticleRepository;
+import com.example.unternehmenshandbuch.service.dto.ArticleImportReport;
+import com.example.unternehmenshandbuch.service.dto.ArticleRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class ArticleBatchInsertBenchmarkTest {
+
+    private static final int ROWS = 5_000;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleImportService articleImportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleBodyRepository articleBodyRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    public void tearDown() {
+        articleRepository.deleteAllInBatch();
+        articleBodyRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void benchmarkRowByRowAgainstBatchedInserts() throws IOException {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        long start = System.nanoTime();
+        for (ArticleRequestDto dto : requests("single")) {
+            articleService.createArticle(dto);
+        }
+        report("row by row", System.nanoTime() - start, statistics);
+
+        statistics.clear();
+        start = System.nanoTime();
+        StringBuilder records = new StringBuilder();
+        for (ArticleRequestDto dto : requests("batched")) {
+            records.append(objectMapper.writeValueAsString(dto)).append('\n');
+        }
+        ArticleImportReport report = articleImportService.importArticles(new ByteArrayInputStream(records.toString().getBytes(StandardCharsets.UTF_8)));
+        report("batched", System.nanoTime() - start, statistics);
+
+        assertThat(report.getImported()).isEqualTo(ROWS);
+        assertThat(articleRepository.count()).isEqualTo(2L * ROWS);
+    }
+
+    private static void report(String mode, long nanos, Statistics statistics) {
+        System.out.printf("%-12s %8d rows %10.0f rows/s %8d statements %6d transactions%n", mode, ROWS,
+                ROWS / (nanos / 1_000_000_000d), statistics.getPrepareStatementCount(), statistics.getTransactionCount());
+    }
+
+    private static List<ArticleRequestDto> requests(String prefix) {
+        List<ArticleRequestDto> requests = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            requests.add(ArticleRequestDto.builder()
+                    .publicId(prefix + "-" + i)
+                    .title("Title " + i)
+                    .description("Description " + i)
+                    .content("Content " + prefix + " " + i)
+                    .version(0)
+                    .status(Article.ArticleStatus.EDITING)
+                    .editedBy("bench-editor")
+                    .build());
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.model.ArticleBody;
+import com.example.unternehmenshandbuch.persistence.ArticleBodyRepository;
+import com.example.unternehmenshandbuch.persistence.ArticleRepository;
+import com.example.unternehmenshandbuch.service.dto.ArticleRequestDto;
+import com.example.unternehmenshandbuch.support.EmbeddedPostgresTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class ArticleBodyCleanupRaceTest extends EmbeddedPostgresTest {
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleBodyCleanupJob articleBodyCleanupJob;
+
+    @Autowired
+    private ArticleBodyRepository articleBodyRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("TRUNCATE article_search, article_head, articles, article_body");
+    }
+
+    @Test
+    public void testCleanup_WaitsForTouchAndKeepsReusedBody() throws Exception {
+        String hash = orphanedBody("Reused while the cleanup runs");
+        CountDownLatch touched = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            articleBodyRepository.touch(List.of(hash), Instant.now());
+            touched.countDown();
+            await(release);
+        }));
+        assertThat(touched.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Integer> cleanup = CompletableFuture.supplyAsync(articleBodyCleanupJob::deleteOrphanedBodies);
+        awaitLockWait();
+        release.countDown();
+        writer.get(10, TimeUnit.SECONDS);
+
+        assertThat(cleanup.get(10, TimeUnit.SECONDS)).isZero();
+        assertThat(articleBodyRepository.existsById(hash)).isTrue();
+    }
+
+    @Test
+    public void testCreate_ReinsertsBodyDeletedByConcurrentCleanup() throws Exception {
+        String content = "Deleted while an editor reuses it";
+        String hash = orphanedBody(content);
+        CountDownLatch deleted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Integer> cleanup = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            int count = articleBodyRepository.deleteUnreferencedCreatedBefore(Instant.now().minusSeconds(60));
+            deleted.countDown();
+            await(release);
+            return count;
+        }));
+        assertThat(deleted.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Article> writer = CompletableFuture.supplyAsync(() -> articleService.createArticle(ArticleRequestDto.builder()
+                .title("Reused body")
+                .description("Created during cleanup")
+                .content(content)
+                .editedBy("editor")
+                .build()));
+        awaitLockWait();
+        release.countDown();
+
+        assertThat(cleanup.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        Article created = writer.get(10, TimeUnit.SECONDS);
+        assertThat(created.getContentHash()).isEqualTo(hash);
+        assertThat(articleBodyRepository.findById(hash)).get().extracting(ArticleBody::getContent).isEqualTo(content);
+        assertThat(articleRepository.findById(created.getId())).isPresent();
+    }
+
+    private String orphanedBody(String content) {
+        String hash = Article.builder().content(content).build().getContentHash();
+        articleBodyRepository.save(new ArticleBody(hash, content));
+        jdbcTemplate.update("UPDATE article_body SET created_at = now() - interval '2 hours' WHERE hash = ?", hash);
+        return hash;
+    }
+
+    private void awaitLockWait() throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            Integer waiting = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'", Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("No transaction waited for the row lock");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
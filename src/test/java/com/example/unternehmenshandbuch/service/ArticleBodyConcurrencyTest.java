@@ -0,0 +1,85 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.helper.Helper;
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.model.ArticleBody;
+import com.example.unternehmenshandbuch.persistence.ArticleBodyRepository;
+import com.example.unternehmenshandbuch.service.dto.ArticleRequestDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class ArticleBodyConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleBodyRepository articleBodyRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    public void testConcurrentCreateWithSameContent_StoresBodyOnce() throws Exception {
+        String content = "Shared content written concurrently";
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Article>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            int index = thread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return articleService.createArticle(request("Concurrent body " + index, content));
+            }));
+        }
+        start.countDown();
+
+        List<Article> created = new ArrayList<>();
+        for (Future<Article> future : futures) {
+            created.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertThat(created).hasSize(THREADS).allSatisfy(article -> assertThat(article.getContentHash()).isEqualTo(Helper.sha256Hex(content)));
+        assertThat(articleBodyRepository.findById(Helper.sha256Hex(content))).map(ArticleBody::getContent).contains(content);
+    }
+
+    @Test
+    public void testCreateWithExistingContent_RefreshesBodyCreatedAt() {
+        String content = "Content reused after a while";
+        String hash = Helper.sha256Hex(content);
+        Instant longAgo = Instant.parse("2000-01-01T00:00:00Z");
+        articleService.createArticle(request("First", content));
+        transactionTemplate.executeWithoutResult(status -> articleBodyRepository.touch(List.of(hash), longAgo));
+
+        articleService.createArticle(request("Second", content));
+
+        assertThat(articleBodyRepository.findById(hash).orElseThrow().getCreatedAt()).isAfter(longAgo);
+    }
+
+    private static ArticleRequestDto request(String title, String content) {
+        return ArticleRequestDto.builder()
+                .title(title)
+                .description("Description")
+                .content(content)
+                .editedBy("user")
+                .build();
+    }
+}
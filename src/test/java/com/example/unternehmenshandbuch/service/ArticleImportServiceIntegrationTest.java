@@ -0,0 +1,55 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.persistence.ArticleBodyRepository;
+import com.example.unternehmenshandbuch.persistence.ArticleRepository;
+import com.example.unternehmenshandbuch.service.dto.ArticleImportReport;
+import com.example.unternehmenshandbuch.service.dto.ArticleImportResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class ArticleImportServiceIntegrationTest {
+
+    @Autowired
+    private ArticleImportService articleImportService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleBodyRepository articleBodyRepository;
+
+    @AfterEach
+    public void tearDown() {
+        articleRepository.deleteAllInBatch();
+        articleBodyRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void testImportArticles_KeepsGoodRecordsWhenBatchIsRejected() throws IOException {
+        String records = record("import-a", "Fits") + record("import-b", "D".repeat(300)) + record("import-c", "Fits too");
+
+        ArticleImportReport report = articleImportService.importArticles(new ByteArrayInputStream(records.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(report.getResults()).extracting(ArticleImportResult::getStatus).containsExactly(
+                ArticleImportResult.Status.IMPORTED, ArticleImportResult.Status.FAILED, ArticleImportResult.Status.IMPORTED);
+        assertThat(report.getResults().get(1).getMessage()).isEqualTo("Record could not be saved");
+        assertThat(articleRepository.findAll()).extracting(Article::getPublicId)
+                .filteredOn(publicId -> publicId.startsWith("import-"))
+                .containsExactlyInAnyOrder("import-a", "import-c");
+    }
+
+    private static String record(String publicId, String description) {
+        return "{\"publicId\": \"" + publicId + "\", \"title\": \"Imported\", \"description\": \"" + description
+                + "\", \"content\": \"Imported content " + publicId + "\", \"editedBy\": \"importer\"}\n";
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.exception.ArticleValidationException;
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.service.dto.ArticleImportReport;
+import com.example.unternehmenshandbuch.service.dto.ArticleImportResult;
+import com.example.unternehmenshandbuch.service.dto.ArticleRequestDto;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class ArticleImportServiceTest {
+
+    @Mock
+    private ArticleService articleService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private ArticleImportService articleImportService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        articleImportService = new ArticleImportService(articleService, Jackson2ObjectMapperBuilder.json().build(), entityManager,
+                Validation.buildDefaultValidatorFactory().getValidator(), 2);
+        when(articleService.newArticle(any(ArticleRequestDto.class))).thenAnswer(invocation -> {
+            ArticleRequestDto dto = invocation.getArgument(0);
+            if (dto.getTitle() == null || dto.getTitle().isBlank()) {
+                throw new ArticleValidationException("ArticleRequestDto or its fields must not be null or empty");
+            }
+            return Article.builder().publicId(dto.getPublicId()).version(0).title(dto.getTitle()).build();
+        });
+    }
+
+    @Test
+    public void testImportArticles_JsonArrayInBatches() throws IOException {
+        ArticleImportReport report = articleImportService.importArticles(stream(
+                "[{\"publicId\": \"a\", \"title\": \"A\", \"content\": \"x\"}, {\"publicId\": \"b\", \"title\": \"B\", \"content\": \"x\"}, {\"publicId\": \"c\", \"title\": \"C\", \"content\": \"x\"}]"));
+
+        assertThat(report.getTotal()).isEqualTo(3);
+        assertThat(report.getImported()).isEqualTo(3);
+        assertThat(report.getResults()).extracting(ArticleImportResult::getPublicId).containsExactly("a", "b", "c");
+        verify(articleService, times(2)).saveNewArticles(anyList());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    public void testImportArticles_NdjsonReportsInvalidRecords() throws IOException {
+        ArticleImportReport report = articleImportService.importArticles(stream(
+                "{\"publicId\": \"a\", \"title\": \"A\", \"content\": \"x\"}\n{\"publicId\": \"b\", \"title\": \"\"}\n42\n{\"publicId\": \"c\", \"title\": \"C\", \"content\": \"x\"}\n"));
+
+        assertThat(report.getTotal()).isEqualTo(4);
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getFailed()).isEqualTo(2);
+        assertThat(report.getResults()).extracting(ArticleImportResult::getStatus).containsExactly(
+                ArticleImportResult.Status.IMPORTED, ArticleImportResult.Status.FAILED,
+                ArticleImportResult.Status.FAILED, ArticleImportResult.Status.IMPORTED);
+        assertThat(report.getResults().get(2).getMessage()).isEqualTo("Record must be a JSON object");
+    }
+
+    @Test
+    public void testImportArticles_FailedBatchRetriesRecordsOneByOne() throws IOException {
+        when(articleService.saveNewArticles(anyList())).thenAnswer(invocation -> {
+            List<Article> articles = invocation.getArgument(0);
+            if (articles.stream().anyMatch(article -> article.getPublicId().equals("b"))) {
+                throw new IllegalStateException("ERROR: duplicate key value violates unique constraint");
+            }
+            return articles;
+        });
+
+        ArticleImportReport report = articleImportService.importArticles(stream(
+                "[{\"publicId\": \"a\", \"title\": \"A\", \"content\": \"x\"}, {\"publicId\": \"b\", \"title\": \"B\", \"content\": \"x\"}, {\"publicId\": \"c\", \"title\": \"C\", \"content\": \"x\"}]"));
+
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getResults()).extracting(ArticleImportResult::getStatus).containsExactly(
+                ArticleImportResult.Status.IMPORTED, ArticleImportResult.Status.FAILED, ArticleImportResult.Status.IMPORTED);
+        assertThat(report.getResults().get(1).getMessage()).isEqualTo("Record could not be saved");
+        verify(articleService, times(4)).saveNewArticles(anyList());
+    }
+
+    @Test
+    public void testImportArticles_ReportsConstraintViolationsPerRecord() throws IOException {
+        ArticleImportReport report = articleImportService.importArticles(stream(
+                "{\"publicId\": \"a\", \"title\": \"" + "T".repeat(256) + "\", \"content\": \"x\"}\n"
+                        + "{\"publicId\": \"b\", \"title\": \"B\"}\n"
+                        + "{\"publicId\": \"c\", \"title\": \"C\", \"content\": \"x\"}\n"));
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getResults().get(0).getMessage()).isEqualTo("title: Title must be less than 255 characters");
+        assertThat(report.getResults().get(1).getMessage()).isEqualTo("content: Content is mandatory");
+        assertThat(report.getResults().get(2).getStatus()).isEqualTo(ArticleImportResult.Status.IMPORTED);
+        verify(articleService, times(1)).saveNewArticles(anyList());
+    }
+
+    @Test
+    public void testImportArticles_TypeMismatchFailsOnlyItsRecord() throws IOException {
+        ArticleImportReport report = articleImportService.importArticles(stream(
+                "[{\"publicId\": \"a\", \"title\": \"A\", \"content\": \"x\", \"version\": \"first\"}, {\"publicId\": \"b\", \"title\": \"B\", \"content\": \"x\"}]"));
+
+        assertThat(report.getTotal()).isEqualTo(2);
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getResults().get(0).getStatus()).isEqualTo(ArticleImportResult.Status.FAILED);
+        assertThat(report.getResults().get(0).getMessage()).startsWith("Invalid record");
+        assertThat(report.getResults().get(1).getStatus()).isEqualTo(ArticleImportResult.Status.IMPORTED);
+    }
+
+    @Test
+    public void testImportArticles_MalformedJsonStopsImport() throws IOException {
+        ArticleImportReport report = articleImportService.importArticles(stream(
+                "[{\"publicId\": \"a\", \"title\": \"A\", \"content\": \"x\"}, {\"publicId\": \"b\", \"title\": }, {\"publicId\": \"c\", \"title\": \"C\", \"content\": \"x\"}]"));
+
+        assertThat(report.getTotal()).isEqualTo(2);
+        assertThat(report.getResults().get(0).getStatus()).isEqualTo(ArticleImportResult.Status.IMPORTED);
+        assertThat(report.getResults().get(1).getMessage()).startsWith("Malformed record");
+    }
+
+    @Test
+    public void testImportArticles_MalformedNdjsonLineStopsImport() throws IOException {
+        ArticleImportReport report = articleImportService.importArticles(stream(
+                "{\"publicId\": \"a\", \"title\": \"A\", \"content\": \"x\"}\nnot json\n{\"publicId\": \"c\", \"title\": \"C\", \"content\": \"x\"}\n"));
+
+        assertThat(report.getTotal()).isEqualTo(2);
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getResults().get(0).getStatus()).isEqualTo(ArticleImportResult.Status.IMPORTED);
+        assertThat(report.getResults().get(1).getStatus()).isEqualTo(ArticleImportResult.Status.FAILED);
+        assertThat(report.getResults().get(1).getMessage()).startsWith("Malformed record");
+    }
+
+    @Test
+    public void testImportArticles_TruncatedArrayReportsImportedRecords() throws IOException {
+        ArticleImportReport report = articleImportService.importArticles(stream(
+                "[{\"publicId\": \"a\", \"title\": \"A\", \"content\": \"x\"}, {\"publicId\": \"b\", \"title\": \"B\", \"content\": \"x\"}"));
+
+        assertThat(report.getTotal()).isEqualTo(3);
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getResults().get(2).getStatus()).isEqualTo(ArticleImportResult.Status.FAILED);
+        assertThat(report.getResults().get(2).getMessage()).startsWith("Malformed record");
+    }
+
+    @Test
+    public void testImportArticles_EmptyBody() throws IOException {
+        ArticleImportReport report = articleImportService.importArticles(stream(""));
+
+        assertThat(report.getTotal()).isZero();
+        verify(articleService, never()).saveNewArticles(anyList());
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
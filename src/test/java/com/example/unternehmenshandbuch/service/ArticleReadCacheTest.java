@@ -0,0 +1,128 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.exception.ResourceNotFoundException;
+import com.example.unternehmenshandbuch.model.Article;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ArticleReadCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ArticleReadCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ArticleReadCache(meterRegistry, DataSize.ofKilobytes(64), Duration.ofMinutes(5));
+    }
+
+    @Test
+    public void testGetVersion_CachesApprovedVersions() {
+        CountingLoader loader = new CountingLoader(article("a", 3, Article.ArticleStatus.APPROVED, "Content"));
+
+        Article first = cache.getVersion("a", 3, loader);
+        Article second = cache.getVersion("a", 3, loader);
+
+        assertThat(loader.calls.get()).isEqualTo(1);
+        assertThat(second.getContent()).isEqualTo("Content");
+        assertThat(second).isNotSameAs(first);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testGetVersion_DoesNotCacheWorkInProgress() {
+        CountingLoader loader = new CountingLoader(article("a", 3, Article.ArticleStatus.EDITING, "Draft"));
+
+        assertThat(cache.getVersion("a", 3, loader).getContent()).isEqualTo("Draft");
+        assertThat(cache.getVersion("a", 3, loader).getStatus()).isEqualTo(Article.ArticleStatus.EDITING);
+
+        assertThat(loader.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testGetLatestApproved_DoesNotCacheMisses() {
+        Supplier<Article> missing = () -> {
+            throw new ResourceNotFoundException("No approved article found with publicId: a");
+        };
+
+        assertThatThrownBy(() -> cache.getLatestApproved("a", missing)).isInstanceOf(ResourceNotFoundException.class);
+
+        CountingLoader loader = new CountingLoader(article("a", 1, Article.ArticleStatus.APPROVED, "Content"));
+        assertThat(cache.getLatestApproved("a", loader).getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    public void testEvents_InvalidateLatestEntriesOfChangedArticlesOnly() {
+        CountingLoader latestA = new CountingLoader(article("a", 1, Article.ArticleStatus.APPROVED, "A1"));
+        CountingLoader versionA = new CountingLoader(article("a", 1, Article.ArticleStatus.APPROVED, "A1"));
+        CountingLoader latestB = new CountingLoader(article("b", 1, Article.ArticleStatus.APPROVED, "B1"));
+        cache.getLatestApproved("a", latestA);
+        cache.getVersion("a", 1, versionA);
+        cache.getLatestApproved("b", latestB);
+
+        cache.onArticleApproved(new ArticleApprovedEvent(List.of("a")));
+        cache.getLatestApproved("a", latestA);
+        cache.getVersion("a", 1, versionA);
+        cache.getLatestApproved("b", latestB);
+        cache.onArticleChanged(new ArticleChangedEvent(List.of("b")));
+        cache.getLatestApproved("b", latestB);
+
+        assertThat(latestA.calls.get()).isEqualTo(2);
+        assertThat(versionA.calls.get()).isEqualTo(1);
+        assertThat(latestB.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testWeigher_EvictsByContentSize() {
+        String content = "x".repeat(8 * 1024);
+        for (int version = 1; version <= 20; version++) {
+            cache.getVersion("a", version, new CountingLoader(article("a", version, Article.ArticleStatus.APPROVED, content)));
+        }
+        cache.cleanUp();
+
+        assertThat(cache.stats().evictionCount()).isGreaterThan(0);
+        assertThat(cache.stats().evictionWeight()).isGreaterThanOrEqualTo(2L * content.length());
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", ArticleReadCache.CACHE_NAME).functionCounter().count()).isGreaterThan(0);
+    }
+
+    private static Article article(String publicId, int version, Article.ArticleStatus status, String content) {
+        return Article.builder()
+                .id((long) version)
+                .publicId(publicId)
+                .title("Title " + version)
+                .description("Description")
+                .content(content)
+                .version(version)
+                .status(status)
+                .build();
+    }
+
+    private static final class CountingLoader implements Supplier<Article> {
+
+        private final Article article;
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private CountingLoader(Article article) {
+            this.article = article;
+        }
+
+        @Override
+        public Article get() {
+            calls.incrementAndGet();
+            return article;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.persistence.ArticleRepository;
+import com.example.unternehmenshandbuch.support.ArticleFixtures;
+import com.example.unternehmenshandbuch.support.EmbeddedPostgresTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class ArticleReviewQueueServiceIntegrationTest extends EmbeddedPostgresTest {
+
+    private static final int ARTICLES = 40;
+
+    private static final int REVIEWERS = 8;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleReviewQueueService articleReviewQueueService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    public void setup() {
+        jdbcTemplate.update("DELETE FROM articles WHERE status = 'SUBMITTED'");
+    }
+
+    @Test
+    public void testConcurrentReviewers_NeverClaimTheSameArticle() throws Exception {
+        List<String> publicIds = new ArrayList<>();
+        for (int i = 0; i < ARTICLES; i++) {
+            publicIds.add(ArticleFixtures.submit(articleService, "Queued article " + i).getPublicId());
+        }
+
+        Map<String, String> claims = new ConcurrentHashMap<>();
+        Queue<String> doubleClaims = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(REVIEWERS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < REVIEWERS; i++) {
+            String reviewer = "reviewer-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                while (true) {
+                    Optional<Article> claimed = articleReviewQueueService.claimNextSubmittedArticle(reviewer);
+                    if (claimed.isEmpty()) {
+                        return null;
+                    }
+                    Article article = claimed.get();
+                    if (claims.putIfAbsent(article.getPublicId(), reviewer) != null) {
+                        doubleClaims.add(article.getPublicId());
+                    }
+                    articleService.declineArticleByPublicIdAndStatus(article.getPublicId(), Article.ArticleStatus.SUBMITTED, "Reviewed by " + reviewer);
+                }
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertThat(doubleClaims).isEmpty();
+        assertThat(claims.keySet()).containsAll(publicIds);
+        assertThat(claims.values()).hasSizeGreaterThanOrEqualTo(ARTICLES);
+        for (String publicId : publicIds) {
+            Article declined = articleRepository.findByPublicIdAndStatus(publicId, Article.ArticleStatus.EDITING);
+            assertThat(declined.getDenyText()).isEqualTo("Reviewed by " + claims.get(publicId));
+            assertThat(declined.getClaimedBy()).isNull();
+        }
+    }
+
+    @Test
+    public void testClaim_ReturnsOwnClaimAndReleasesExpiredClaims() {
+        String publicId = ArticleFixtures.submit(articleService, "Claimed article").getPublicId();
+
+        Article first = articleReviewQueueService.claimNextSubmittedArticle("alice").orElseThrow();
+        Article again = articleReviewQueueService.claimNextSubmittedArticle("alice").orElseThrow();
+        Optional<Article> other = articleReviewQueueService.claimNextSubmittedArticle("bob");
+
+        assertThat(first.getPublicId()).isEqualTo(publicId);
+        assertThat(again.getPublicId()).isEqualTo(publicId);
+        assertThat(first.getClaimedUntil()).isAfter(Instant.now());
+        assertThat(other).isEmpty();
+
+        Article expired = articleRepository.findByPublicIdAndStatus(publicId, Article.ArticleStatus.SUBMITTED);
+        expired.setClaimedUntil(Instant.now().minusSeconds(1));
+        articleRepository.save(expired);
+
+        Article reclaimed = articleReviewQueueService.claimNextSubmittedArticle("bob").orElseThrow();
+
+        assertThat(reclaimed.getPublicId()).isEqualTo(publicId);
+        assertThat(reclaimed.getClaimedBy()).isEqualTo("bob");
+        assertThat(reclaimed.getRowVersion()).isEqualTo(expired.getRowVersion());
+
+        articleService.declineArticleByPublicIdAndStatus(publicId, Article.ArticleStatus.SUBMITTED, "Done");
+    }
+
+    @Test
+    public void testClaim_SkipsArticleLockedByAnotherTransaction() throws Exception {
+        String locked = ArticleFixtures.submit(articleService, "Locked article").getPublicId();
+        String free = ArticleFixtures.submit(articleService, "Free article").getPublicId();
+
+        CountDownLatch lockHeld = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> holder = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT id FROM articles WHERE public_id = ? AND status = 'SUBMITTED' FOR UPDATE", locked);
+            lockHeld.countDown();
+            try {
+                release.await(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        try {
+            assertThat(lockHeld.await(30, TimeUnit.SECONDS)).isTrue();
+
+            Article claimed = articleReviewQueueService.claimNextSubmittedArticle("carol").orElseThrow();
+
+            assertThat(claimed.getPublicId()).isEqualTo(free);
+        } finally {
+            release.countDown();
+            holder.get(1, TimeUnit.MINUTES);
+            executor.shutdown();
+        }
+
+        articleService.declineArticleByPublicIdAndStatus(locked, Article.ArticleStatus.SUBMITTED, "Done");
+        articleService.declineArticleByPublicIdAndStatus(free, Article.ArticleStatus.SUBMITTED, "Done");
+    }
+}
@@ -1,18 +1,40 @@
 package com.example.unternehmenshandbuch.service;
 
+import com.example.unternehmenshandbuch.exception.ArticleConflictException;
 import com.example.unternehmenshandbuch.exception.ArticleValidationException;
+import com.example.unternehmenshandbuch.helper.Helper;
 import com.example.unternehmenshandbuch.exception.ResourceNotFoundException;
+import com.example.unternehmenshandbuch.model.ArchivedArticle;
 import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.model.ArticleHead;
+import com.example.unternehmenshandbuch.persistence.ArchivedArticleRepository;
+import com.example.unternehmenshandbuch.persistence.ArticleBodyRepository;
+import com.example.unternehmenshandbuch.persistence.ArticleHeadRepository;
 import com.example.unternehmenshandbuch.persistence.ArticleRepository;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleEditorAndVersion;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleSummary;
+import com.example.unternehmenshandbuch.service.dto.ArticleBulkReviewReport;
+import com.example.unternehmenshandbuch.service.dto.ArticleCursor;
+import com.example.unternehmenshandbuch.service.dto.ArticlePage;
 import com.example.unternehmenshandbuch.service.dto.ArticleRequestDto;
+import com.example.unternehmenshandbuch.service.dto.ArticleReviewItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.mockito.Mockito.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,11 +45,30 @@ public class ArticleServiceImplTest {
     @Mock
     private ArticleRepository repository;
 
+    @Mock
+    private ArticleBodyRepository bodyRepository;
+
+    @Mock
+    private ArticleHeadRepository headRepository;
+
+    @Mock
+    private ArchivedArticleRepository archivedRepository;
+
+    @Mock
+    private ArticleDeltaStorage deltaStorage;
+
+    @Spy
+    private ArticleReadCache readCache = new ArticleReadCache(new SimpleMeterRegistry(), DataSize.ofMegabytes(1), Duration.ofMinutes(5));
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ArticleServiceImpl articleService;
 
     private ArticleRequestDto articleRequestDto;
     private Article article;
+    private ArticleSummary articleSummary;
 
     @BeforeEach
     public void setUp() {
@@ -57,6 +98,44 @@ public class ArticleServiceImplTest {
                 .denyText("denied")
                 .createdAt(Instant.parse("2024-03-06T12:34:56.789Z"))
                 .build();
+
+        articleSummary = new ArticleSummary(1L, "test-id", "Test Title", "Test Description", 1, Article.ArticleStatus.EDITING,
+                "user", true, false, "denied", Instant.parse("2024-03-06T12:34:56.789Z"));
+    }
+
+    @Test
+    public void testCreateArticle_InsertsBodyIfAbsent() {
+        when(repository.save(any(Article.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Article result = articleService.createArticle(articleRequestDto);
+
+        InOrder inOrder = inOrder(bodyRepository);
+        inOrder.verify(bodyRepository).touch(eq(Set.of(result.getContentHash())), any(Instant.class));
+        inOrder.verify(bodyRepository).insertIfAbsent(eq(Map.of(result.getContentHash(), "Test Content")), any(Instant.class));
+        assertThat(result.getContent()).isEqualTo("Test Content");
+    }
+
+    @Test
+    public void testSaveNewArticles_StoresSharedBodyOnceAndSavesAllArticles() {
+        ArticleRequestDto second = requestDto("other-id", "Other Title");
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Article> result = articleService.saveNewArticles(List.of(articleService.newArticle(articleRequestDto), articleService.newArticle(second)));
+
+        ArgumentCaptor<Map<String, String>> bodiesCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(bodyRepository, times(1)).insertIfAbsent(bodiesCaptor.capture(), any(Instant.class));
+        assertThat(bodiesCaptor.getValue()).containsOnlyKeys(result.get(0).getContentHash());
+        assertThat(result).extracting(Article::getPublicId).containsExactly("test-id", "other-id");
+        verify(repository, never()).save(any(Article.class));
+    }
+
+    @Test
+    public void testNewArticle_InvalidArticle() {
+        ArticleRequestDto invalid = requestDto("other-id", "");
+
+        assertThatThrownBy(() -> articleService.newArticle(invalid))
+                .isInstanceOf(ArticleValidationException.class);
+        verifyNoInteractions(repository, bodyRepository);
     }
 
     @Test
@@ -96,6 +175,34 @@ public class ArticleServiceImplTest {
         verify(repository, times(1)).findByPublicIdAndVersion("test-id", 1);
     }
 
+    @Test
+    public void testGetArticleByPublicIdAndVersion_FallsBackToArchive() {
+        article.setId(7L);
+        article.setStatus(Article.ArticleStatus.APPROVED);
+        when(repository.findByPublicIdAndVersion("test-id", 1)).thenReturn(Optional.empty());
+        when(archivedRepository.findFirstByPublicIdAndVersionOrderByIdDesc("test-id", 1)).thenReturn(Optional.of(ArchivedArticle.of(article)));
+
+        Article result = articleService.getArticleByPublicIdAndVersion("test-id", 1);
+
+        assertThat(result.getId()).isEqualTo(7L);
+        assertThat(result.getStatus()).isEqualTo(Article.ArticleStatus.APPROVED);
+        assertThat(result.getContent()).isEqualTo("Test Content");
+    }
+
+    @Test
+    public void testGetApprovedArticleByPublicIdAndLastVersion_CachedUntilChanged() {
+        article.setStatus(Article.ArticleStatus.APPROVED);
+        when(repository.findLatestApprovedArticleByPublicId("test-id")).thenReturn(Optional.of(article));
+
+        articleService.getApprovedArticleByPublicIdAndLastVersion("test-id");
+        Article cached = articleService.getApprovedArticleByPublicIdAndLastVersion("test-id");
+        readCache.onArticleChanged(new ArticleChangedEvent(List.of("test-id")));
+        articleService.getApprovedArticleByPublicIdAndLastVersion("test-id");
+
+        assertThat(cached.getContent()).isEqualTo("Test Content");
+        verify(repository, times(2)).findLatestApprovedArticleByPublicId("test-id");
+    }
+
     @Test
     public void testGetArticleByPublicIdAndVersionAndStatus_Success() {
         when(repository.findArticleByPublicIdAndVersionAndStatus("test-id", 1, Article.ArticleStatus.EDITING)).thenReturn(Optional.of(article));
@@ -124,17 +231,32 @@ public class ArticleServiceImplTest {
     @Test
     public void testGetAllApprovedArticlesByPublicId_Success() {
 
-        List<Article> articles = Collections.singletonList(article);
+        List<ArticleSummary> articles = Collections.singletonList(articleSummary);
 
         when(repository.findAllApprovedArticlesByPublicId("test-id", Article.ArticleStatus.EDITING))
                 .thenReturn(articles);
 
-        List<Article> result = articleService.getAllApprovedArticlesByPublicId("test-id", Article.ArticleStatus.EDITING);
+        List<ArticleSummary> result = articleService.getAllApprovedArticlesByPublicId("test-id", Article.ArticleStatus.EDITING);
 
         assertThat(result).isNotEmpty();
-        assertThat(result.get(0).getPublicId()).isEqualTo("test-id");
-        assertThat(result.get(0).getStatus()).isEqualTo(Article.ArticleStatus.EDITING);
+        assertThat(result.get(0).publicId()).isEqualTo("test-id");
+        assertThat(result.get(0).status()).isEqualTo(Article.ArticleStatus.EDITING);
         verify(repository, times(1)).findAllApprovedArticlesByPublicId("test-id", Article.ArticleStatus.EDITING);
+        verifyNoInteractions(archivedRepository);
+    }
+
+    @Test
+    public void testGetAllApprovedArticlesByPublicId_IncludesArchivedVersions() {
+        ArticleSummary archived = new ArticleSummary(1L, "test-id", "Old Title", "Old Description", 1,
+                Article.ArticleStatus.APPROVED, "user", true, false, null, Instant.now());
+        ArticleSummary current = new ArticleSummary(2L, "test-id", "Title", "Description", 6,
+                Article.ArticleStatus.APPROVED, "user", true, false, null, Instant.now());
+        when(repository.findAllApprovedArticlesByPublicId("test-id", Article.ArticleStatus.APPROVED)).thenReturn(List.of(current));
+        when(archivedRepository.findSummariesByPublicId("test-id")).thenReturn(List.of(archived));
+
+        List<ArticleSummary> result = articleService.getAllApprovedArticlesByPublicId("test-id", Article.ArticleStatus.APPROVED);
+
+        assertThat(result).containsExactly(archived, current);
     }
 
 
@@ -149,9 +271,9 @@ public class ArticleServiceImplTest {
 
     @Test
     public void testGetArticlesByStatus_Success() {
-        when(repository.findAllByStatus(Article.ArticleStatus.SUBMITTED)).thenReturn(Collections.singletonList(article));
+        when(repository.findAllByStatus(Article.ArticleStatus.SUBMITTED)).thenReturn(Collections.singletonList(articleSummary));
 
-        List<Article> articles = articleService.getArticlesByStatus();
+        List<ArticleSummary> articles = articleService.getArticlesByStatus();
 
         assertThat(articles).isNotEmpty();
         verify(repository, times(1)).findAllByStatus(Article.ArticleStatus.SUBMITTED);
@@ -159,23 +281,76 @@ public class ArticleServiceImplTest {
 
     @Test
     public void testGetApprovedArticles_Success() {
-        when(repository.findAllByStatus(Article.ArticleStatus.APPROVED)).thenReturn(Collections.singletonList(article));
+        when(repository.findAllLatestApproved()).thenReturn(Collections.singletonList(articleSummary));
 
-        List<Article> articles = articleService.getApprovedArticles();
+        List<ArticleSummary> articles = articleService.getApprovedArticles();
 
         assertThat(articles).isNotEmpty();
-        verify(repository, times(1)).findAllByStatus(Article.ArticleStatus.APPROVED);
+        verify(repository, times(1)).findAllLatestApproved();
+    }
+
+    @Test
+    public void testGetArticlePageByStatus_FirstPageHasNextCursor() {
+        List<ArticleSummary> articles = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            articles.add(new ArticleSummary(id, "test-id-" + id, "Title", "Description", 1, Article.ArticleStatus.APPROVED,
+                    "user", true, false, null, Instant.parse("2024-03-06T12:00:00Z")));
+        }
+        when(repository.findPageByStatus(eq(Article.ArticleStatus.APPROVED), any(Pageable.class))).thenReturn(articles);
+
+        ArticlePage page = articleService.getArticlePageByStatus(Article.ArticleStatus.APPROVED, null, 2);
+
+        assertThat(page.getArticles()).hasSize(2);
+        assertThat(page.getNextCursor()).isNotNull();
+        ArticleCursor cursor = ArticleCursor.decode(page.getNextCursor());
+        assertThat(cursor.getId()).isEqualTo(2L);
+        assertThat(cursor.getCreatedAt()).isEqualTo(Instant.parse("2024-03-06T12:00:00Z"));
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(repository).findPageByStatus(eq(Article.ArticleStatus.APPROVED), pageableCaptor.capture());
+        assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(3);
+    }
+
+    @Test
+    public void testGetArticlePageByStatus_LastPageHasNoCursor() {
+        String cursor = new ArticleCursor(Instant.parse("2024-03-06T12:00:00Z"), 5L).encode();
+        when(repository.findPageByStatusAfter(eq(Article.ArticleStatus.SUBMITTED), eq(Instant.parse("2024-03-06T12:00:00Z")), eq(5L), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(articleSummary));
+
+        ArticlePage page = articleService.getArticlePageByStatus(Article.ArticleStatus.SUBMITTED, cursor, null);
+
+        assertThat(page.getArticles()).containsExactly(articleSummary);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void testGetArticlePageByStatus_PageSizeIsBounded() {
+        when(repository.findPageByStatus(eq(Article.ArticleStatus.APPROVED), any(Pageable.class))).thenReturn(Collections.emptyList());
+
+        articleService.getArticlePageByStatus(Article.ArticleStatus.APPROVED, null, 10_000);
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(repository).findPageByStatus(eq(Article.ArticleStatus.APPROVED), pageableCaptor.capture());
+        assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(Helper.MAX_PAGE_SIZE + 1);
+    }
+
+    @Test
+    public void testGetArticlePageByStatus_InvalidCursor() {
+        assertThatThrownBy(() -> articleService.getArticlePageByStatus(Article.ArticleStatus.APPROVED, "not-a-cursor", 10))
+                .isInstanceOf(ArticleValidationException.class);
     }
 
     @Test
     public void testApproveArticle_Success() {
+        article.setId(1L);
+        article.setRowVersion(3L);
         article.setStatus(Article.ArticleStatus.SUBMITTED);
         article.setIsEditable(false);
         article.setIsSubmitted(true);
 
         when(repository.findByPublicIdAndStatus(article.getPublicId(), Article.ArticleStatus.SUBMITTED))
                 .thenReturn(article);
-        when(repository.save(any(Article.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        applyTransitions();
 
         Article result = articleService.approveArticle(article.getPublicId(), articleRequestDto);
 
@@ -191,7 +366,36 @@ public class ArticleServiceImplTest {
         assertThat(result.getIsSubmitted()).isFalse();
 
         verify(repository, times(1)).findByPublicIdAndStatus(article.getPublicId(), Article.ArticleStatus.SUBMITTED);
-        verify(repository, times(2)).save(any(Article.class));
+        verify(repository, times(1)).compareAndSet(any(Article.class), eq(Article.ArticleStatus.SUBMITTED), eq(3L));
+        verify(repository, never()).save(any(Article.class));
+        verify(headRepository, times(1)).save(new ArticleHead(article.getPublicId(), result.getId(), 2));
+        verify(deltaStorage, times(1)).storePreviousAsDelta(null, result);
+        verify(eventPublisher, times(1)).publishEvent(new ArticleApprovedEvent(List.of(article.getPublicId())));
+    }
+
+    @Test
+    public void testApproveArticle_UsesRowVersionFromRequest() {
+        article.setId(1L);
+        article.setRowVersion(3L);
+        article.setStatus(Article.ArticleStatus.SUBMITTED);
+        articleRequestDto.setRowVersion(2L);
+
+        when(repository.findByPublicIdAndStatus(article.getPublicId(), Article.ArticleStatus.SUBMITTED)).thenReturn(article);
+
+        assertThatThrownBy(() -> articleService.approveArticle(article.getPublicId(), articleRequestDto))
+                .isInstanceOf(ArticleConflictException.class);
+
+        verify(repository, times(1)).compareAndSet(any(Article.class), eq(Article.ArticleStatus.SUBMITTED), eq(2L));
+        verifyNoInteractions(headRepository, eventPublisher);
+    }
+
+    @Test
+    public void testApproveArticle_NoLongerSubmitted_Conflict() {
+        when(repository.findByPublicIdAndStatus(article.getPublicId(), Article.ArticleStatus.SUBMITTED)).thenReturn(null);
+
+        assertThatThrownBy(() -> articleService.approveArticle(article.getPublicId(), articleRequestDto))
+                .isInstanceOf(ArticleConflictException.class)
+                .hasMessage("No submitted article found with publicId: test-id");
     }
 
     @Test
@@ -270,20 +474,22 @@ public class ArticleServiceImplTest {
     @Test
     public void testSetSubmitStatus_Success() {
         when(repository.findByPublicIdAndStatus("test-id", Article.ArticleStatus.EDITING)).thenReturn(article);
-        when(repository.save(any(Article.class))).thenReturn(article);
+        applyTransitions();
 
         Article result = articleService.setSubmitStatus(articleRequestDto);
 
         assertThat(result).isNotNull();
         assertThat(result.getStatus()).isEqualTo(Article.ArticleStatus.SUBMITTED);
-        verify(repository, times(1)).save(any(Article.class));
+        assertThat(result.getIsSubmitted()).isTrue();
+        assertThat(article.getStatus()).isEqualTo(Article.ArticleStatus.EDITING);
+        verify(repository, times(1)).compareAndSet(any(Article.class), eq(Article.ArticleStatus.EDITING), isNull());
     }
 
     @Test
     public void testGetArticlesByUserAndStatus_Success() {
-        when(repository.findByEditedByAndStatus("user", Article.ArticleStatus.EDITING)).thenReturn(Collections.singletonList(article));
+        when(repository.findByEditedByAndStatus("user", Article.ArticleStatus.EDITING)).thenReturn(Collections.singletonList(articleSummary));
 
-        List<Article> result = articleService.getArticlesByUserAndStatus("user", Article.ArticleStatus.EDITING);
+        List<ArticleSummary> result = articleService.getArticlesByUserAndStatus("user", Article.ArticleStatus.EDITING);
 
         assertThat(result).isNotEmpty();
         verify(repository, times(1)).findByEditedByAndStatus("user", Article.ArticleStatus.EDITING);
@@ -311,23 +517,121 @@ public class ArticleServiceImplTest {
 
     @Test
     public void testDeclineArticleByPublicIdAndStatus_Success() {
+        article.setStatus(Article.ArticleStatus.SUBMITTED);
         when(repository.findByPublicIdAndStatus("test-id", Article.ArticleStatus.SUBMITTED)).thenReturn(article);
-        when(repository.save(any(Article.class))).thenReturn(article);
+        applyTransitions();
 
         Article result = articleService.declineArticleByPublicIdAndStatus("test-id", Article.ArticleStatus.SUBMITTED, "Reason");
 
         assertThat(result).isNotNull();
         assertThat(result.getStatus()).isEqualTo(Article.ArticleStatus.EDITING);
-        verify(repository, times(1)).save(any(Article.class));
+        assertThat(result.getDenyText()).isEqualTo("Reason");
+        verify(repository, times(1)).compareAndSet(any(Article.class), eq(Article.ArticleStatus.SUBMITTED), isNull());
+        verify(eventPublisher, times(1)).publishEvent(new ArticleChangedEvent(List.of("test-id")));
+    }
+
+    @Test
+    public void testDeclineArticleByPublicIdAndStatus_ChangedConcurrently_Conflict() {
+        article.setStatus(Article.ArticleStatus.SUBMITTED);
+        when(repository.findByPublicIdAndStatus("test-id", Article.ArticleStatus.SUBMITTED)).thenReturn(article);
+        when(repository.compareAndSet(any(Article.class), any(Article.ArticleStatus.class), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> articleService.declineArticleByPublicIdAndStatus("test-id", Article.ArticleStatus.SUBMITTED, "Reason"))
+                .isInstanceOf(ArticleConflictException.class);
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    public void testApproveArticles_ReportsSucceededAndNoLongerSubmitted() {
+        Article submittedA = submitted(10L, "a", 2);
+        Article submittedB = submitted(11L, "b", 5);
+        ArticleReviewItem itemA = new ArticleReviewItem("a", 2);
+        ArticleReviewItem staleB = new ArticleReviewItem("b", 4);
+        ArticleReviewItem missingC = new ArticleReviewItem("c", 1);
+        when(repository.findAndLockByStatusAndPublicIdIn(eq(Article.ArticleStatus.SUBMITTED), anyCollection()))
+                .thenReturn(List.of(submittedA, submittedB));
+
+        ArticleBulkReviewReport report = articleService.approveArticles(List.of(itemA, staleB, missingC));
+
+        assertThat(report.getSucceeded()).containsExactly(itemA);
+        assertThat(report.getNotSubmitted()).containsExactly(staleB, missingC);
+        verify(repository, times(1)).approveSubmitted(Set.of(10L));
+        verify(headRepository, times(1)).moveToArticles(Set.of(10L));
+        verify(headRepository, times(1)).insertForArticles(Set.of(10L));
+        verify(repository, never()).save(any(Article.class));
+        verify(eventPublisher, times(1)).publishEvent(any(ArticleApprovedEvent.class));
+    }
+
+    @Test
+    public void testApproveArticles_NothingSubmitted() {
+        ArticleReviewItem item = new ArticleReviewItem("a", 2);
+        when(repository.findAndLockByStatusAndPublicIdIn(eq(Article.ArticleStatus.SUBMITTED), anyCollection())).thenReturn(List.of());
+
+        ArticleBulkReviewReport report = articleService.approveArticles(List.of(item));
+
+        assertThat(report.getSucceeded()).isEmpty();
+        assertThat(report.getNotSubmitted()).containsExactly(item);
+        verify(repository, never()).approveSubmitted(anyCollection());
+        verifyNoInteractions(headRepository);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    public void testApproveArticles_InvalidPublicId() {
+        assertThatThrownBy(() -> articleService.approveArticles(List.of(new ArticleReviewItem(" ", 1))))
+                .isInstanceOf(ArticleValidationException.class);
+    }
+
+    @Test
+    public void testDeclineArticles_Success() {
+        ArticleReviewItem item = new ArticleReviewItem("a", 2);
+        when(repository.findAndLockByStatusAndPublicIdIn(eq(Article.ArticleStatus.SUBMITTED), anyCollection()))
+                .thenReturn(List.of(submitted(10L, "a", 2)));
+
+        ArticleBulkReviewReport report = articleService.declineArticles(List.of(item), "Reason");
+
+        assertThat(report.getSucceeded()).containsExactly(item);
+        verify(repository, times(1)).declineSubmitted(Set.of(10L), "Reason");
     }
 
     @Test
     public void testGetEditedByWithStatusEditingAndVersion_Success() {
-        when(repository.getEditedByWithStatusEditingAndVersion("test-id")).thenReturn(article);
+        ArticleEditorAndVersion editorAndVersion = mock(ArticleEditorAndVersion.class);
+        when(repository.getEditedByWithStatusEditingAndVersion("test-id")).thenReturn(editorAndVersion);
 
-        Article result = articleService.getEditedByWithStatusEditingAndVersion("test-id");
+        ArticleEditorAndVersion result = articleService.getEditedByWithStatusEditingAndVersion("test-id");
 
         assertThat(result).isNotNull();
         verify(repository, times(1)).getEditedByWithStatusEditingAndVersion("test-id");
     }
+
+    private static Article submitted(Long id, String publicId, int version) {
+        return Article.builder()
+                .id(id)
+                .publicId(publicId)
+                .version(version)
+                .status(Article.ArticleStatus.SUBMITTED)
+                .build();
+    }
+
+    private static ArticleRequestDto requestDto(String publicId, String title) {
+        return ArticleRequestDto.builder()
+                .publicId(publicId)
+                .title(title)
+                .description("Test Description")
+                .content("Test Content")
+                .version(1)
+                .status(Article.ArticleStatus.EDITING)
+                .editedBy("user")
+                .build();
+    }
+
+    private void applyTransitions() {
+        AtomicReference<Article> next = new AtomicReference<>();
+        when(repository.compareAndSet(any(Article.class), any(Article.ArticleStatus.class), any())).thenAnswer(invocation -> {
+            next.set(invocation.getArgument(0));
+            return 1;
+        });
+        when(repository.findById(any())).thenAnswer(invocation -> Optional.ofNullable(next.get()));
+    }
 }
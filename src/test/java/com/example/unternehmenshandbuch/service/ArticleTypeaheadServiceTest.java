@@ -0,0 +1,105 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.exception.ArticleValidationException;
+import com.example.unternehmenshandbuch.persistence.ArticleRepository;
+import com.example.unternehmenshandbuch.persistence.projection.ArticleTitle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+public class ArticleTypeaheadServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ArticleTypeaheadService articleTypeaheadService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        articleTypeaheadService = new ArticleTypeaheadService(articleRepository, transactionManager);
+        when(articleRepository.findAllLatestApprovedTitles()).thenReturn(List.of(
+                new ArticleTitle("1", "Urlaub"),
+                new ArticleTitle("2", "Reisekosten")));
+        articleTypeaheadService.buildDictionary();
+    }
+
+    @Test
+    public void testSuggest_UsesDictionary() {
+        assertThat(articleTypeaheadService.suggest(" ur", null)).containsExactly(new ArticleTitle("1", "Urlaub"));
+        assertThat(articleTypeaheadService.suggest("", 5)).isEmpty();
+        assertThat(articleTypeaheadService.suggest(null, 5)).isEmpty();
+    }
+
+    @Test
+    public void testSuggest_InvalidLimit() {
+        assertThrows(ArticleValidationException.class, () -> articleTypeaheadService.suggest("ur", 0));
+    }
+
+    @Test
+    public void testOnArticleApproved_SwapsInNewDictionary() {
+        when(articleRepository.findLatestApprovedTitlesByPublicIdIn(List.of("1", "3"))).thenReturn(List.of(
+                new ArticleTitle("1", "Ferien"),
+                new ArticleTitle("3", "Urlaubsantrag")));
+
+        articleTypeaheadService.onArticleApproved(new ArticleApprovedEvent(List.of("1", "3")));
+
+        assertThat(articleTypeaheadService.suggest("ur", null)).containsExactly(new ArticleTitle("3", "Urlaubsantrag"));
+        assertThat(articleTypeaheadService.suggest("fe", null)).containsExactly(new ArticleTitle("1", "Ferien"));
+        assertThat(articleTypeaheadService.getDictionary().size()).isEqualTo(3);
+    }
+
+    @Test
+    public void testBuildDictionary_KeepsApprovalsDuringBuild() {
+        ArticleTypeaheadService service = new ArticleTypeaheadService(articleRepository, transactionManager);
+        when(articleRepository.findLatestApprovedTitlesByPublicIdIn(List.of("2"))).thenReturn(List.of(new ArticleTitle("2", "Reisekostenrichtlinie")));
+        when(articleRepository.findAllLatestApprovedTitles()).thenAnswer(invocation -> {
+            service.onArticleApproved(new ArticleApprovedEvent(List.of("2")));
+            return List.of(new ArticleTitle("1", "Urlaub"), new ArticleTitle("2", "Reisekosten"));
+        });
+
+        service.buildDictionary();
+
+        assertThat(service.suggest("reise", null)).containsExactly(new ArticleTitle("2", "Reisekostenrichtlinie"));
+        assertThat(service.getDictionary().size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testRebuildDictionary_ReplacesStaleTitles() {
+        when(articleRepository.findAllLatestApprovedTitles()).thenReturn(List.of(
+                new ArticleTitle("1", "Ferien"),
+                new ArticleTitle("2", "Reisekosten")));
+
+        articleTypeaheadService.rebuildDictionary();
+
+        assertThat(articleTypeaheadService.suggest("ur", null)).isEmpty();
+        assertThat(articleTypeaheadService.suggest("fe", null)).containsExactly(new ArticleTitle("1", "Ferien"));
+    }
+
+    @Test
+    public void testRebuildDictionary_ReloadsWhenApprovedDuringLoad() {
+        when(articleRepository.findLatestApprovedTitlesByPublicIdIn(List.of("2"))).thenReturn(List.of(new ArticleTitle("2", "Reisekostenrichtlinie")));
+        when(articleRepository.findAllLatestApprovedTitles())
+                .thenAnswer(invocation -> {
+                    articleTypeaheadService.onArticleApproved(new ArticleApprovedEvent(List.of("2")));
+                    return List.of(new ArticleTitle("1", "Urlaub"), new ArticleTitle("2", "Reisekosten"));
+                })
+                .thenReturn(List.of(new ArticleTitle("1", "Urlaub"), new ArticleTitle("2", "Reisekostenrichtlinie")));
+
+        articleTypeaheadService.rebuildDictionary();
+
+        assertThat(articleTypeaheadService.suggest("reise", null)).containsExactly(new ArticleTitle("2", "Reisekostenrichtlinie"));
+        verify(articleRepository, times(3)).findAllLatestApprovedTitles();
+    }
+}
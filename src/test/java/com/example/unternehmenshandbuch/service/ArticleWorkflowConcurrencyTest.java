@@ -0,0 +1,102 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.exception.ArticleConflictException;
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.persistence.ArticleRepository;
+import com.example.unternehmenshandbuch.service.dto.ArticleRequestDto;
+import com.example.unternehmenshandbuch.support.ArticleFixtures;
+import com.example.unternehmenshandbuch.support.EmbeddedPostgresTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class ArticleWorkflowConcurrencyTest extends EmbeddedPostgresTest {
+
+    private static final int ARTICLES = 25;
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Test
+    public void testConcurrentApproveAndDecline_ExactlyOneReviewWinsPerArticle() throws Exception {
+        List<ArticleRequestDto> submitted = new ArrayList<>();
+        for (int i = 0; i < ARTICLES; i++) {
+            submitted.add(ArticleFixtures.submit(articleService, "Concurrent review " + i));
+        }
+
+        Map<String, AtomicInteger> wins = new ConcurrentHashMap<>();
+        AtomicInteger conflicts = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            boolean approver = thread % 2 == 0;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (ArticleRequestDto article : submitted) {
+                    try {
+                        if (approver) {
+                            articleService.approveArticle(article.getPublicId(), article);
+                        } else {
+                            articleService.declineArticleByPublicIdAndStatus(article.getPublicId(), Article.ArticleStatus.SUBMITTED, "Declined concurrently");
+                        }
+                        wins.computeIfAbsent(article.getPublicId(), publicId -> new AtomicInteger()).incrementAndGet();
+                    } catch (ArticleConflictException | ConcurrencyFailureException e) {
+                        conflicts.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        unexpected.add(e);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertThat(unexpected).isEmpty();
+        assertThat(wins).hasSize(ARTICLES);
+        assertThat(wins.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+        assertThat(conflicts.get()).isEqualTo(ARTICLES * (THREADS - 1));
+
+        for (ArticleRequestDto article : submitted) {
+            Article approved = articleRepository.findByPublicIdAndStatus(article.getPublicId(), Article.ArticleStatus.APPROVED);
+            Article declined = articleRepository.findByPublicIdAndStatus(article.getPublicId(), Article.ArticleStatus.EDITING);
+            assertThat(articleRepository.findByPublicIdAndStatus(article.getPublicId(), Article.ArticleStatus.SUBMITTED)).isNull();
+            assertThat(approved == null).isNotEqualTo(declined == null);
+            if (approved != null) {
+                assertThat(approved.getVersion()).isEqualTo(article.getVersion() + 1);
+                assertThat(articleService.getApprovedArticleByPublicIdAndLastVersion(article.getPublicId()).getId()).isEqualTo(approved.getId());
+            } else {
+                assertThat(declined.getDenyText()).isEqualTo("Declined concurrently");
+                assertThat(declined.getIsSubmitted()).isFalse();
+            }
+        }
+    }
+}
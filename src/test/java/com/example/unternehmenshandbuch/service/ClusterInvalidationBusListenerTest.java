@@ -0,0 +1,103 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@Tag("postgres")
+@ExtendWith(MockitoExtension.class)
+public class ClusterInvalidationBusListenerTest {
+
+	private static EmbeddedPostgres postgres;
+
+	private static NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Mock
+	private ArticleReadCache articleReadCache;
+
+	@Mock
+	private UserDetailsCache userDetailsCache;
+
+	@Mock
+	private TokenVersionService tokenVersionService;
+
+	@Mock
+	private ArticleTypeaheadService articleTypeaheadService;
+
+	@BeforeAll
+	public static void startPostgres() throws IOException {
+		postgres = EmbeddedPostgres.builder().start();
+		Flyway.configure().dataSource(postgres.getPostgresDatabase()).locations("classpath:db/migration").load().migrate();
+		jdbcTemplate = new NamedParameterJdbcTemplate(postgres.getPostgresDatabase());
+	}
+
+	@AfterAll
+	public static void stopPostgres() throws IOException {
+		postgres.close();
+	}
+
+	@Test
+	public void testListener_KeepsRunningWhenInvalidationAndRefreshFail() throws Exception {
+		doThrow(new IllegalStateException("cache unavailable")).doNothing().when(articleReadCache).invalidate(List.of("a1"));
+		doThrow(new IllegalStateException("database unavailable")).doNothing().when(tokenVersionService).refresh();
+		ClusterInvalidationBus bus = newBus();
+		ClusterInvalidationBus remote = newBus();
+
+		bus.start();
+		try {
+			awaitListening();
+			remote.onArticleChanged(new ArticleChangedEvent(List.of("a1")));
+
+			verify(tokenVersionService, timeout(10_000).times(2)).refresh();
+			remote.onArticleChanged(new ArticleChangedEvent(List.of("a2")));
+
+			verify(articleReadCache, timeout(10_000)).invalidate(List.of("a2"));
+			assertThat(bus.isRunning()).isTrue();
+		} finally {
+			bus.stop();
+		}
+		assertThat(bus.isRunning()).isFalse();
+	}
+
+	private ClusterInvalidationBus newBus() {
+		DataSourceProperties dataSourceProperties = new DataSourceProperties();
+		dataSourceProperties.setUrl(postgres.getJdbcUrl("postgres", "postgres"));
+		dataSourceProperties.setUsername("postgres");
+		dataSourceProperties.setPassword("postgres");
+		return new ClusterInvalidationBus(true, jdbcTemplate, new ObjectMapper(), dataSourceProperties,
+				articleReadCache, userDetailsCache, tokenVersionService, articleTypeaheadService,
+				new StaticListableBeanFactory().getBeanProvider(EmbeddedArticleSearchService.class), Duration.ofMillis(100), Duration.ofMillis(100));
+	}
+
+	private static void awaitListening() throws InterruptedException {
+		String listening = "SELECT COUNT(*) FROM pg_stat_activity WHERE query = :query AND state = 'idle'";
+		for (int attempt = 0; attempt < 100; attempt++) {
+			Integer count = jdbcTemplate.queryForObject(listening, Map.of("query", ClusterInvalidationBus.CURRENT_STAMP), Integer.class);
+			if (count != null && count > 0) {
+				return;
+			}
+			Thread.sleep(100);
+		}
+		throw new AssertionError("Listener did not connect");
+	}
+}
@@ -0,0 +1,225 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class ClusterInvalidationBusTest {
+
+	@Mock
+	private NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Mock
+	private ArticleReadCache articleReadCache;
+
+	@Mock
+	private UserDetailsCache userDetailsCache;
+
+	@Mock
+	private TokenVersionService tokenVersionService;
+
+	@Mock
+	private ArticleTypeaheadService articleTypeaheadService;
+
+	@Mock
+	private EmbeddedArticleSearchService embeddedArticleSearchService;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private ClusterInvalidationBus bus;
+
+	@BeforeEach
+	public void setUp() {
+		bus = newBus();
+	}
+
+	@Test
+	public void testOnArticleChanged_NotifiesWithSequenceStamp() throws Exception {
+		bus.onArticleChanged(new ArticleChangedEvent(List.of("a1", "a2")));
+
+		Map<String, Object> params = capturePayloads(1).get(0);
+		ClusterInvalidationBus.Message message = objectMapper.readValue((String) params.get("payload"), ClusterInvalidationBus.Message.class);
+		assertThat(message.type()).isEqualTo(ClusterInvalidationBus.Message.Type.ARTICLE);
+		assertThat(message.keys()).containsExactly("a1", "a2");
+	}
+
+	@Test
+	public void testOnArticleChanged_SplitsLargeBatches() {
+		List<String> publicIds = IntStream.range(0, ClusterInvalidationBus.MAX_KEYS_PER_NOTIFICATION + 1).mapToObj(String::valueOf).toList();
+
+		bus.onArticleChanged(new ArticleChangedEvent(publicIds));
+
+		capturePayloads(2);
+	}
+
+	@Test
+	public void testOnNotification_AppliesRemoteInvalidations() {
+		ClusterInvalidationBus remote = newBus();
+		remote.onArticleChanged(new ArticleChangedEvent(List.of("a1")));
+		remote.onUserTokensRevoked(new UserTokensRevokedEvent("testuser", 3));
+		List<Map<String, Object>> payloads = capturePayloads(2);
+
+		bus.onNotification("1 " + payloads.get(0).get("payload"));
+		bus.onNotification("2 " + payloads.get(1).get("payload"));
+
+		verify(articleReadCache).invalidate(List.of("a1"));
+		verify(articleTypeaheadService).refresh(List.of("a1"));
+		verify(embeddedArticleSearchService).refresh(List.of("a1"));
+		verify(userDetailsCache).invalidate("testuser");
+		verify(tokenVersionService).advance("testuser", 3);
+	}
+
+	@Test
+	public void testOnNotification_WorksWithoutEmbeddedSearch() {
+		ClusterInvalidationBus remote = newBus();
+		remote.onArticleChanged(new ArticleChangedEvent(List.of("a1")));
+		String payload = (String) capturePayloads(1).get(0).get("payload");
+		ClusterInvalidationBus withoutSearch = newBus(new StaticListableBeanFactory().getBeanProvider(EmbeddedArticleSearchService.class));
+
+		withoutSearch.onNotification("1 " + payload);
+		withoutSearch.onConnected(1);
+		withoutSearch.onConnected(3);
+
+		verify(articleTypeaheadService).refresh(List.of("a1"));
+		verify(articleTypeaheadService).rebuildDictionary();
+		verifyNoInteractions(embeddedArticleSearchService);
+	}
+
+	@Test
+	public void testOnNotification_SkipsOwnMessages() {
+		bus.onArticleChanged(new ArticleChangedEvent(List.of("a1")));
+		String payload = (String) capturePayloads(1).get(0).get("payload");
+
+		bus.onNotification("1 " + payload);
+
+		verifyNoInteractions(articleReadCache, userDetailsCache, tokenVersionService, articleTypeaheadService, embeddedArticleSearchService);
+	}
+
+	@Test
+	public void testOnNotification_FlushesOnUnusableMessages() {
+		bus.onNotification("garbage");
+		bus.onNotification("2 {not json");
+		bus.onNotification("3 {\"origin\": \"remote\", \"keys\": [\"a1\"]}");
+		bus.onNotification("4 {\"origin\": \"remote\", \"type\": \"USER\"}");
+
+		verify(articleReadCache, times(4)).invalidateAll();
+		verify(userDetailsCache, times(4)).invalidateAll();
+		verify(tokenVersionService, times(4)).refresh();
+		verify(articleTypeaheadService, times(4)).rebuildDictionary();
+		verify(embeddedArticleSearchService, times(4)).buildIndex();
+		verify(articleReadCache, never()).invalidate(any());
+	}
+
+	@Test
+	public void testOnNotification_FailedInvalidationFlushesOnReconnect() {
+		ClusterInvalidationBus remote = newBus();
+		remote.onArticleChanged(new ArticleChangedEvent(List.of("a1")));
+		String payload = (String) capturePayloads(1).get(0).get("payload");
+		doThrow(new IllegalStateException("cache unavailable")).when(articleReadCache).invalidate(List.of("a1"));
+
+		bus.onConnected(5);
+		assertThatThrownBy(() -> bus.onNotification("6 " + payload)).isInstanceOf(IllegalStateException.class);
+		bus.onConnected(6);
+
+		verify(articleReadCache).invalidateAll();
+		verify(tokenVersionService).refresh();
+	}
+
+	@Test
+	public void testOnConnected_FlushesOnlyWhenEventsWereMissed() {
+		bus.onConnected(5);
+		verifyNoInteractions(articleReadCache, userDetailsCache, tokenVersionService, articleTypeaheadService, embeddedArticleSearchService);
+
+		bus.onConnected(5);
+		verify(articleReadCache, never()).invalidateAll();
+
+		bus.onConnected(7);
+		verify(articleReadCache).invalidateAll();
+		verify(userDetailsCache).invalidateAll();
+		verify(tokenVersionService).refresh();
+		verify(articleTypeaheadService).rebuildDictionary();
+		verify(embeddedArticleSearchService).buildIndex();
+	}
+
+	@Test
+	public void testOnConnected_RetriesFlushAfterFailure() {
+		doThrow(new IllegalStateException("database unavailable")).doNothing().when(tokenVersionService).refresh();
+
+		bus.onConnected(5);
+		assertThatThrownBy(() -> bus.onConnected(7)).isInstanceOf(IllegalStateException.class);
+		bus.onConnected(7);
+
+		verify(tokenVersionService, times(2)).refresh();
+	}
+
+	@Test
+	public void testOnConnected_NotificationsAdvanceStamp() {
+		ClusterInvalidationBus remote = newBus();
+		remote.onArticleChanged(new ArticleChangedEvent(List.of("a1")));
+		String payload = (String) capturePayloads(1).get(0).get("payload");
+
+		bus.onConnected(5);
+		bus.onNotification("6 " + payload);
+		bus.onConnected(6);
+
+		verify(articleReadCache, never()).invalidateAll();
+	}
+
+	@Test
+	public void testDisabled_DoesNotNotify() {
+		ClusterInvalidationBus disabled = new ClusterInvalidationBus(false, jdbcTemplate, objectMapper, new DataSourceProperties(),
+				articleReadCache, userDetailsCache, tokenVersionService, articleTypeaheadService, searchServiceProvider(),
+				Duration.ofSeconds(1), Duration.ofSeconds(1));
+
+		disabled.onArticleChanged(new ArticleChangedEvent(List.of("a1")));
+
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+	private ClusterInvalidationBus newBus() {
+		return newBus(searchServiceProvider());
+	}
+
+	private ClusterInvalidationBus newBus(ObjectProvider<EmbeddedArticleSearchService> searchServiceProvider) {
+		return new ClusterInvalidationBus(true, jdbcTemplate, objectMapper, new DataSourceProperties(),
+				articleReadCache, userDetailsCache, tokenVersionService, articleTypeaheadService, searchServiceProvider,
+				Duration.ofSeconds(1), Duration.ofSeconds(1));
+	}
+
+	private ObjectProvider<EmbeddedArticleSearchService> searchServiceProvider() {
+		return new StaticListableBeanFactory(Map.of("embeddedArticleSearchService", embeddedArticleSearchService))
+				.getBeanProvider(EmbeddedArticleSearchService.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Map<String, Object>> capturePayloads(int count) {
+		ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(jdbcTemplate, times(count)).query(anyString(), captor.capture(), any(RowCallbackHandler.class));
+		return captor.getAllValues();
+	}
+}
@@ -0,0 +1,62 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.service.dto.ArticleRequestDto;
+import com.example.unternehmenshandbuch.service.dto.ArticleReviewItem;
+import com.example.unternehmenshandbuch.service.dto.ArticleSearchHit;
+import com.example.unternehmenshandbuch.service.dto.ArticleSearchPage;
+import com.example.unternehmenshandbuch.support.ArticleFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "handbook.search.engine=embedded")
+public class EmbeddedArticleSearchServiceIntegrationTest {
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleSearchService articleSearchService;
+
+    @Test
+    public void testApprovedArticles_AreSearchableAfterCommit() {
+        ArticleRequestDto vacation = ArticleFixtures.submit(articleService, "Urlaubsantrag", "Wie Urlaub beantragt wird", "Urlaub wird im Portal beantragt.");
+        ArticleRequestDto travel = ArticleFixtures.submit(articleService, "Reisekosten", "Abrechnung von Dienstreisen", "Belege im Portal hochladen.");
+
+        assertThat(articleSearchService.search("portal", 0, 10).getHits()).isEmpty();
+
+        articleService.approveArticle(vacation.getPublicId(), vacation);
+        articleService.approveArticles(List.of(new ArticleReviewItem(travel.getPublicId(), travel.getVersion())));
+
+        ArticleSearchPage page = articleSearchService.search("portal urlaub", 0, 10);
+
+        assertThat(page.getHits()).extracting(ArticleSearchHit::getPublicId).containsExactly(vacation.getPublicId(), travel.getPublicId());
+        assertThat(page.getHits().get(0).getVersion()).isEqualTo(vacation.getVersion() + 1);
+        assertThat(page.getHits().get(0).getSnippet()).isEqualTo("Wie <mark>Urlaub</mark> beantragt wird");
+        assertThat(page.getHasNext()).isFalse();
+    }
+
+    @Test
+    public void testSnippet_EscapesMarkup() {
+        ArticleRequestDto article = ArticleFixtures.submit(articleService, "Gleitzeit", "Gleitzeit <script>alert('x')</script> & Kernzeit", "Kernzeit von 10 bis 15 Uhr.");
+        articleService.approveArticle(article.getPublicId(), article);
+
+        ArticleSearchPage page = articleSearchService.search("gleitzeit", 0, 10);
+
+        assertThat(page.getHits()).extracting(ArticleSearchHit::getSnippet)
+                .containsExactly("<mark>Gleitzeit</mark> &lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; Kernzeit");
+    }
+
+    @Test
+    public void testSearch_PageBeyondIndexIsEmpty() {
+        ArticleSearchPage page = articleSearchService.search("portal", Integer.MAX_VALUE, 100);
+
+        assertThat(page.getHits()).isEmpty();
+        assertThat(page.getPage()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(page.getHasNext()).isFalse();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.service.dto.ArticleSearchPage;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+public class PostgresArticleSearchBenchmarkTest {
+
+    private static final int PUBLIC_IDS = 20_000;
+    private static final int VERSIONS_PER_ARTICLE = 5;
+    private static final int WORDS_PER_BODY = 80;
+    private static final double COMMON_WORD_SHARE = 0.05;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 20;
+
+    private static final String VOCABULARY = "urlaubsantrag reisekosten erstattung homeoffice ausstattung datenschutz schulung "
+            + "arbeitszeit gleitzeit krankmeldung dienstreise fahrtkosten verpflegung hotel genehmigung vorgesetzte abteilung "
+            + "personal richtlinie vertrag kündigung probezeit gehalt abrechnung zuschuss weiterbildung sicherheit notfall "
+            + "brandschutz parkplatz kantine bürobedarf laptop passwort zugang ausweis besucher empfang";
+
+    private static final List<String> QUERIES = List.of(
+            "urlaubsantrag",
+            "reisekosten erstattung",
+            "homeoffice -ausstattung",
+            "\"datenschutz schulung\"",
+            "begriff17 OR begriff230",
+            "begriff4711",
+            "arbeitszeit gleitzeit");
+
+    private static EmbeddedPostgres postgres;
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private static SingleConnectionDataSource connection;
+
+    private static PostgresArticleSearchService searchService;
+
+    @BeforeAll
+    public static void seed() throws IOException, SQLException {
+        postgres = EmbeddedPostgres.builder().start();
+        Flyway.configure().dataSource(postgres.getPostgresDatabase()).locations("classpath:db/migration").load().migrate();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+
+        long start = System.nanoTime();
+        jdbcTemplate.update("""
+                INSERT INTO article_body (hash, content, created_at)
+                SELECT md5(body.content), body.content, now()
+                FROM generate_series(1, ?) AS v(id)
+                CROSS JOIN LATERAL (
+                    SELECT string_agg(CASE WHEN random() < ?
+                                           THEN words[1 + floor(random() * cardinality(words))::int]
+                                           ELSE 'begriff' || floor(power(random(), 3) * 10000)::int END, ' ') AS content
+                    FROM generate_series(1, ?), string_to_array(?, ' ') AS words
+                    WHERE v.id > 0
+                ) AS body
+                ON CONFLICT DO NOTHING
+                """, PUBLIC_IDS * VERSIONS_PER_ARTICLE, COMMON_WORD_SHARE, WORDS_PER_BODY, VOCABULARY);
+        jdbcTemplate.update("""
+                INSERT INTO articles (public_id, description, title, content_hash, version, status, is_editable, is_submitted, created_at)
+                SELECT 'article-' || ((b.rn - 1) / ?), 'Beschreibung ' || b.rn, 'Richtlinie ' || b.rn, b.hash,
+                       1 + (b.rn - 1) % ?, 'APPROVED', false, false, now()
+                FROM (SELECT hash, row_number() OVER (ORDER BY hash) AS rn FROM article_body) AS b
+                """, VERSIONS_PER_ARTICLE, VERSIONS_PER_ARTICLE);
+        jdbcTemplate.execute("""
+                INSERT INTO article_head (public_id, approved_article_id, version)
+                SELECT DISTINCT ON (public_id) public_id, id, version FROM articles ORDER BY public_id, version DESC
+                """);
+        jdbcTemplate.execute("ANALYZE");
+
+        System.out.printf("seeded %d versions, %d indexed heads in %d ms%n",
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM articles", Long.class),
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM article_search", Long.class),
+                (System.nanoTime() - start) / 1_000_000);
+
+        connection = new SingleConnectionDataSource(postgres.getPostgresDatabase().getConnection(), true);
+        searchService = new PostgresArticleSearchService(new NamedParameterJdbcTemplate(connection));
+    }
+
+    @AfterAll
+    public static void stopPostgres() throws IOException {
+        connection.destroy();
+        postgres.close();
+    }
+
+    @Test
+    public void benchmarkSearchLatency() {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            QUERIES.forEach(query -> searchService.search(query, 0, null));
+        }
+
+        System.out.printf("%-28s %8s %10s %10s %10s%n", "query", "matches", "p50 ms", "p95 ms", "max ms");
+        double[] all = new double[QUERIES.size() * MEASURED_ROUNDS];
+        int index = 0;
+        for (String query : QUERIES) {
+            double[] durations = new double[MEASURED_ROUNDS];
+            for (int round = 0; round < MEASURED_ROUNDS; round++) {
+                long start = System.nanoTime();
+                ArticleSearchPage page = searchService.search(query, 0, null);
+                durations[round] = (System.nanoTime() - start) / 1_000_000d;
+                all[index++] = durations[round];
+                assertThat(page.getHits()).isNotEmpty();
+            }
+            Arrays.sort(durations);
+            System.out.printf("%-28s %8d %10.2f %10.2f %10.2f%n", query, matches(query),
+                    percentile(durations, 50), percentile(durations, 95), durations[durations.length - 1]);
+        }
+
+        Arrays.sort(all);
+        System.out.printf("overall p50 %.2f ms, p95 %.2f ms, p99 %.2f ms%n", percentile(all, 50), percentile(all, 95), percentile(all, 99));
+    }
+
+    private static long matches(String query) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM article_search WHERE document @@ websearch_to_tsquery('german', ?)",
+                Long.class, query);
+    }
+
+    private static double percentile(double[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile / 100d * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.exception.ArticleValidationException;
+import com.example.unternehmenshandbuch.helper.Helper;
+import com.example.unternehmenshandbuch.service.dto.ArticleSearchHit;
+import com.example.unternehmenshandbuch.service.dto.ArticleSearchPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class PostgresArticleSearchServiceTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private PostgresArticleSearchService articleSearchService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        articleSearchService = new PostgresArticleSearchService(jdbcTemplate);
+    }
+
+    @Test
+    public void testSearch_FetchesOneExtraRowForHasNext() {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class))).thenReturn(hits(3));
+
+        ArticleSearchPage page = articleSearchService.search("handbuch", 1, 2);
+
+        ArgumentCaptor<SqlParameterSource> parameters = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).query(anyString(), parameters.capture(), any(RowMapper.class));
+        assertThat(parameters.getValue().getValue("query")).isEqualTo("handbuch");
+        assertThat(parameters.getValue().getValue("limit")).isEqualTo(3);
+        assertThat(parameters.getValue().getValue("offset")).isEqualTo(2L);
+        assertThat(page.getHits()).extracting(ArticleSearchHit::getPublicId).containsExactly("public-0", "public-1");
+        assertThat(page.getHasNext()).isTrue();
+    }
+
+    @Test
+    public void testSearch_LastPage() {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class))).thenReturn(hits(1));
+
+        ArticleSearchPage page = articleSearchService.search("handbuch", null, null);
+
+        assertThat(page.getPage()).isZero();
+        assertThat(page.getSize()).isEqualTo(Helper.DEFAULT_PAGE_SIZE);
+        assertThat(page.getHits()).hasSize(1);
+        assertThat(page.getHasNext()).isFalse();
+    }
+
+    @Test
+    public void testSearch_InvalidArguments() {
+        assertThrows(ArticleValidationException.class, () -> articleSearchService.search(" ", 0, 10));
+        assertThrows(ArticleValidationException.class, () -> articleSearchService.search("x".repeat(ArticleValidationException.MAX_SEARCH_QUERY_LENGTH + 1), 0, 10));
+        assertThrows(ArticleValidationException.class, () -> articleSearchService.search("handbuch", -1, 10));
+        assertThrows(ArticleValidationException.class, () -> articleSearchService.search("handbuch", 0, 0));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void testToHtml_EscapesTextAndKeepsHighlights() {
+        assertThat(PostgresArticleSearchService.toHtml("\u0002Urlaub\u0003 <img src=x onerror=alert(1)> & mehr"))
+                .isEqualTo("<mark>Urlaub</mark> &lt;img src=x onerror=alert(1)&gt; &amp; mehr");
+        assertThat(PostgresArticleSearchService.toHtml(null)).isNull();
+    }
+
+    private static List<ArticleSearchHit> hits(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> ArticleSearchHit.builder().id((long) i).publicId("public-" + i).version(1).build())
+                .toList();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.unternehmenshandbuch.service;
+
+import com.example.unternehmenshandbuch.exception.ResourceNotFoundException;
+import com.example.unternehmenshandbuch.persistence.AppUserRepository;
+import com.example.unternehmenshandbuch.persistence.projection.UserTokenVersion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenVersionServiceTest {
+
+	@Mock
+	private AppUserRepository repository;
+
+	@Mock
+	private UserDetailsCache userDetailsCache;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	private TokenVersionService tokenVersionService;
+
+	@Test
+	public void testIsCurrent_UnknownUserAcceptsInitialVersion() {
+		assertThat(tokenVersionService.isCurrent("testuser", 0)).isTrue();
+	}
+
+	@Test
+	public void testRevoke_RejectsOlderTokenVersions() {
+		when(repository.incrementTokenVersion("testuser")).thenReturn(1);
+		when(repository.findTokenVersionByUsername("testuser")).thenReturn(Optional.of(new UserTokenVersion("testuser", 1)));
+
+		int tokenVersion = tokenVersionService.revoke("testuser");
+
+		assertThat(tokenVersion).isEqualTo(1);
+		assertThat(tokenVersionService.isCurrent("testuser", 0)).isFalse();
+		assertThat(tokenVersionService.isCurrent("testuser", 1)).isTrue();
+		verify(userDetailsCache).invalidate("testuser");
+		verify(eventPublisher).publishEvent(new UserTokensRevokedEvent("testuser", 1));
+	}
+
+	@Test
+	public void testRevoke_UnknownUser() {
+		when(repository.incrementTokenVersion("unknown")).thenReturn(0);
+
+		assertThatThrownBy(() -> tokenVersionService.revoke("unknown")).isInstanceOf(ResourceNotFoundException.class);
+		verify(userDetailsCache, never()).invalidate("unknown");
+	}
+
+	@Test
+	public void testRefresh_NeverLowersKnownVersion() {
+		when(repository.findAllRevokedTokenVersions())
+				.thenReturn(List.of(new UserTokenVersion("testuser", 3)))
+				.thenReturn(List.of(new UserTokenVersion("testuser", 2)));
+
+		tokenVersionService.refresh();
+		tokenVersionService.refresh();
+
+		assertThat(tokenVersionService.isCurrent("testuser", 2)).isFalse();
+		assertThat(tokenVersionService.isCurrent("testuser", 3)).isTrue();
+	}
+}
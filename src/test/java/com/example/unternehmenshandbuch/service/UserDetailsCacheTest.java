@@ -0,0 +1,76 @@
+package com.example.unternehmenshandbuch.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UserDetailsCacheTest {
+
+	@Mock
+	private AppUserDetailsServiceImpl userDetailsService;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private UserDetailsCache cache;
+
+	private UserDetails userDetails;
+
+	@BeforeEach
+	public void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new UserDetailsCache(userDetailsService, meterRegistry, Duration.ofMinutes(1), 100);
+		userDetails = new User("testuser", "password", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+	}
+
+	@Test
+	public void testLoadUserByUsername_LoadsOncePerUser() {
+		when(userDetailsService.loadUserByUsername("testuser")).thenReturn(userDetails);
+
+		cache.loadUserByUsername("testuser");
+		UserDetails cached = cache.loadUserByUsername("testuser");
+
+		assertThat(cached).isSameAs(userDetails);
+		verify(userDetailsService, times(1)).loadUserByUsername("testuser");
+		assertThat(cache.stats().hitCount()).isEqualTo(1);
+		assertThat(cache.stats().missCount()).isEqualTo(1);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", UserDetailsCache.CACHE_NAME).tag("result", "hit").functionCounter().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void testInvalidate_ReloadsUser() {
+		when(userDetailsService.loadUserByUsername("testuser")).thenReturn(userDetails);
+
+		cache.loadUserByUsername("testuser");
+		cache.invalidate("testuser");
+		cache.loadUserByUsername("testuser");
+
+		verify(userDetailsService, times(2)).loadUserByUsername("testuser");
+	}
+
+	@Test
+	public void testLoadUserByUsername_UnknownUserIsNotCached() {
+		when(userDetailsService.loadUserByUsername("unknown")).thenThrow(new UsernameNotFoundException("Username: unknown not found"));
+
+		assertThatThrownBy(() -> cache.loadUserByUsername("unknown")).isInstanceOf(UsernameNotFoundException.class);
+		assertThatThrownBy(() -> cache.loadUserByUsername("unknown")).isInstanceOf(UsernameNotFoundException.class);
+
+		verify(userDetailsService, times(2)).loadUserByUsername("unknown");
+	}
+}
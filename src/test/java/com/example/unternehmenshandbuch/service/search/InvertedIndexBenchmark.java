@@ -0,0 +1,108 @@
+package com.example.unternehmenshandbuch.service.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+public class InvertedIndexBenchmark {
+
+    private static final int VOCABULARY = 50_000;
+    private static final int TITLE_WORDS = 4;
+    private static final int DESCRIPTION_WORDS = 10;
+    private static final int CONTENT_WORDS = 40;
+
+    @State(Scope.Benchmark)
+    public static class Corpus {
+
+        @Param("1000000")
+        public int documents;
+
+        private final double[] cumulativeFrequencies = zipf(VOCABULARY);
+    }
+
+    @State(Scope.Benchmark)
+    public static class SearchState {
+
+        @Param({"rare", "common", "mixed"})
+        public String queryType;
+
+        private InvertedIndex index;
+
+        private String query;
+
+        @Setup(Level.Trial)
+        public void setup(Corpus corpus) {
+            index = build(corpus.documents, corpus.cumulativeFrequencies);
+            query = switch (queryType) {
+                case "rare" -> word(20_000) + " " + word(30_000);
+                case "common" -> word(1) + " " + word(2);
+                default -> word(5) + " " + word(500) + " " + word(5_000);
+            };
+            System.out.printf("documents=%d postingBytes=%d%n", index.size(), index.postingBytes());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<SearchResult> search(SearchState state) {
+        return state.index.search(state.query, 0, 20);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public InvertedIndex buildIndex(Corpus corpus) {
+        return build(corpus.documents, corpus.cumulativeFrequencies);
+    }
+
+    private static InvertedIndex build(int documents, double[] cumulativeFrequencies) {
+        SplittableRandom random = new SplittableRandom(42);
+        InvertedIndex index = new InvertedIndex();
+        for (int i = 0; i < documents; i++) {
+            index.upsert(new SearchDocument(i, "public-" + i, 1,
+                    text(random, cumulativeFrequencies, TITLE_WORDS),
+                    text(random, cumulativeFrequencies, DESCRIPTION_WORDS),
+                    text(random, cumulativeFrequencies, CONTENT_WORDS)));
+        }
+        index.trim();
+        return index;
+    }
+
+    private static String text(SplittableRandom random, double[] cumulativeFrequencies, int words) {
+        StringBuilder text = new StringBuilder(words * 6);
+        for (int i = 0; i < words; i++) {
+            int rank = Arrays.binarySearch(cumulativeFrequencies, random.nextDouble());
+            text.append(word(rank < 0 ? -rank - 1 : rank)).append(' ');
+        }
+        return text.toString();
+    }
+
+    private static String word(int rank) {
+        return "w" + Integer.toString(rank, 36);
+    }
+
+    private static double[] zipf(int vocabulary) {
+        double[] cumulative = new double[vocabulary];
+        double sum = 0;
+        for (int rank = 0; rank < vocabulary; rank++) {
+            sum += 1.0 / (rank + 1);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < vocabulary; rank++) {
+            cumulative[rank] /= sum;
+        }
+        return cumulative;
+    }
+}
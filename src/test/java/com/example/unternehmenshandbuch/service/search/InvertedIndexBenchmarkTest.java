@@ -0,0 +1,32 @@
+package com.example.unternehmenshandbuch.service.search;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+public class InvertedIndexBenchmarkTest {
+
+    @Test
+    public void benchmarkQueryLatencyAndBuildTime() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(InvertedIndexBenchmark.class.getName())
+                .param("documents", System.getProperty("benchmark.documents", "1000000"))
+                .forks(0)
+                .warmupIterations(2)
+                .measurementIterations(3)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        assertThat(results).isNotEmpty();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.unternehmenshandbuch.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InvertedIndexTest {
+
+    @Test
+    public void testSearch_RanksTitleMatchesFirst() {
+        InvertedIndex index = new InvertedIndex();
+        index.upsert(document("content", 1, "Reisekosten", "Abrechnung", "Urlaub wird im Portal beantragt."));
+        index.upsert(document("title", 1, "Urlaub", "Antrag", "Der Antrag wird im Portal gestellt."));
+        index.upsert(document("other", 1, "Datenschutz", "Richtlinie", "Personenbezogene Daten."));
+
+        List<SearchResult> results = index.search("urlaub", 0, 10);
+
+        assertThat(results).extracting(SearchResult::publicId).containsExactly("title", "content");
+        assertThat(results.get(0).score()).isGreaterThan(results.get(1).score());
+    }
+
+    @Test
+    public void testSearch_ScoresDocumentsMatchingMoreTerms() {
+        InvertedIndex index = new InvertedIndex();
+        index.upsert(document("one", 1, "Handbuch", "", "Urlaub"));
+        index.upsert(document("both", 1, "Handbuch", "", "Urlaub und Reisekosten"));
+
+        assertThat(index.search("Urlaub Reisekosten", 0, 10)).extracting(SearchResult::publicId).containsExactly("both", "one");
+        assertThat(index.search("unbekannt", 0, 10)).isEmpty();
+        assertThat(index.search(" ", 0, 10)).isEmpty();
+    }
+
+    @Test
+    public void testUpsert_ReplacesOlderVersionAndIgnoresStaleOnes() {
+        InvertedIndex index = new InvertedIndex();
+        index.upsert(document("a", 1, "Urlaub", "", ""));
+
+        assertThat(index.upsert(document("a", 2, "Reisekosten", "", ""))).isTrue();
+        assertThat(index.upsert(document("a", 1, "Urlaub", "", ""))).isFalse();
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("urlaub", 0, 10)).isEmpty();
+        assertThat(index.search("reisekosten", 0, 10)).extracting(SearchResult::version).containsExactly(2);
+    }
+
+    @Test
+    public void testSearch_OffsetNearIntegerLimit() {
+        InvertedIndex index = new InvertedIndex();
+        index.upsert(document("a", 1, "Urlaub", "", ""));
+
+        assertThat(index.search("urlaub", Integer.MAX_VALUE - 10, 101)).isEmpty();
+    }
+
+    @Test
+    public void testSearch_Paginates() {
+        InvertedIndex index = new InvertedIndex();
+        for (int i = 0; i < 5; i++) {
+            index.upsert(document("doc-" + i, 1, "Urlaub", "", "text ".repeat(i + 1)));
+        }
+
+        List<String> all = index.search("urlaub", 0, 5).stream().map(SearchResult::publicId).toList();
+        List<String> secondPage = index.search("urlaub", 2, 2).stream().map(SearchResult::publicId).toList();
+
+        assertThat(all).containsExactly("doc-0", "doc-1", "doc-2", "doc-3", "doc-4");
+        assertThat(secondPage).containsExactly("doc-2", "doc-3");
+        assertThat(index.search("urlaub", 5, 2)).isEmpty();
+    }
+
+    @Test
+    public void testUpsert_CompactsAfterManyReplacements() {
+        InvertedIndex index = new InvertedIndex();
+        for (int version = 1; version <= InvertedIndex.MIN_DELETED_FOR_COMPACTION + 10; version++) {
+            index.upsert(document("a", version, "Urlaub " + version, "", ""));
+        }
+        index.upsert(document("b", 1, "Urlaub", "", ""));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("urlaub", 0, 10)).extracting(SearchResult::publicId).containsExactlyInAnyOrder("a", "b");
+        assertThat(index.search("1", 0, 10)).isEmpty();
+    }
+
+    @Test
+    public void testPostingList_RoundTripsLargeGaps() {
+        PostingList postingList = new PostingList();
+        int[] docIds = {0, 1, 127, 128, 16_384, 2_000_000, Integer.MAX_VALUE - 1};
+        for (int docId : docIds) {
+            postingList.add(docId, docId % 300 + 1);
+        }
+        postingList.trim();
+
+        List<int[]> decoded = new ArrayList<>();
+        postingList.forEach((docId, termFrequency) -> decoded.add(new int[]{docId, termFrequency}));
+
+        assertThat(decoded).hasSize(docIds.length);
+        for (int i = 0; i < docIds.length; i++) {
+            assertThat(decoded.get(i)).containsExactly(docIds[i], docIds[i] % 300 + 1);
+        }
+        assertThat(postingList.byteSize()).isLessThan(docIds.length * 8);
+    }
+
+    @Test
+    public void testTokenizer_LowercasesAndSplitsOnNonWordCharacters() {
+        assertThat(Tokenizer.tokenize("Über-Stunden, Regelung 2024! a")).containsExactly("über", "stunden", "regelung", "2024");
+    }
+
+    private static SearchDocument document(String publicId, int version, String title, String description, String content) {
+        return new SearchDocument(version, publicId, version, title, description, content);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.unternehmenshandbuch.service.search;
+
+import com.example.unternehmenshandbuch.persistence.projection.ArticleTitle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class TitleDictionaryBenchmark {
+
+    private static final String[] WORDS = {"Richtlinie", "Arbeitszeit", "Urlaub", "Reisekosten", "Datenschutz",
+            "Betriebsrat", "Sicherheit", "Homeoffice", "Einarbeitung", "Vertrag", "Prozess", "Leitfaden"};
+
+    @Param("100000")
+    public int titles;
+
+    @Param({"u", "urlaub re", "datenschutz leitfaden pro"})
+    public String prefix;
+
+    private TitleDictionary dictionary;
+
+    private List<ArticleTitle> entries;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        entries = new ArrayList<>(titles);
+        for (int i = 0; i < titles; i++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " "
+                    + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            entries.add(new ArticleTitle(UUID.randomUUID().toString(), title));
+        }
+        dictionary = TitleDictionary.of(entries);
+        long plainBytes = entries.stream().mapToLong(entry -> 2L * (entry.title().length() + entry.publicId().length())).sum();
+        System.out.printf("titles=%d dictionaryBytes=%d plainUtf16Bytes=%d%n", dictionary.size(), dictionary.sizeInBytes(), plainBytes);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<ArticleTitle> suggest() {
+        return dictionary.suggest(prefix, 10);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public TitleDictionary rebuildWithOneChangedTitle() {
+        return dictionary.withTitles(List.of(new ArticleTitle(entries.get(0).publicId(), "Urlaub neu")));
+    }
+}
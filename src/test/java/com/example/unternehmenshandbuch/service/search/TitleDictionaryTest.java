@@ -0,0 +1,76 @@
+package com.example.unternehmenshandbuch.service.search;
+
+import com.example.unternehmenshandbuch.persistence.projection.ArticleTitle;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TitleDictionaryTest {
+
+    @Test
+    public void testSuggest_MatchesPrefixCaseInsensitivelyInOrder() {
+        TitleDictionary dictionary = TitleDictionary.of(List.of(
+                new ArticleTitle("3", "Urlaubsantrag"),
+                new ArticleTitle("1", "Reisekosten"),
+                new ArticleTitle("2", "urlaub im Ausland"),
+                new ArticleTitle("4", "Übersicht")));
+
+        assertThat(dictionary.suggest("URL", 10)).containsExactly(
+                new ArticleTitle("2", "urlaub im Ausland"),
+                new ArticleTitle("3", "Urlaubsantrag"));
+        assertThat(dictionary.suggest("üb", 10)).containsExactly(new ArticleTitle("4", "Übersicht"));
+        assertThat(dictionary.suggest("x", 10)).isEmpty();
+        assertThat(dictionary.suggest("urlaub", 1)).hasSize(1);
+    }
+
+    @Test
+    public void testSuggest_ScansAcrossBlocks() {
+        List<ArticleTitle> titles = new ArrayList<>();
+        IntStream.range(0, 100).forEach(i -> titles.add(new ArticleTitle("a" + i, String.format("Arbeitszeit %03d", i))));
+        IntStream.range(0, 100).forEach(i -> titles.add(new ArticleTitle("b" + i, String.format("Betriebsrat %03d", i))));
+        TitleDictionary dictionary = TitleDictionary.of(titles);
+
+        assertThat(dictionary.size()).isEqualTo(200);
+        assertThat(dictionary.suggest("arbeitszeit 0", 200)).hasSize(100);
+        assertThat(dictionary.suggest("betriebsrat 05", 20)).extracting(ArticleTitle::title)
+                .containsExactlyElementsOf(IntStream.range(50, 60).mapToObj(i -> String.format("Betriebsrat %03d", i)).toList());
+        assertThat(dictionary.suggest("Betriebsrat 099", 20)).extracting(ArticleTitle::publicId).containsExactly("b99");
+        assertThat(dictionary.suggest("A", 3)).extracting(ArticleTitle::publicId).containsExactly("a0", "a1", "a2");
+    }
+
+    @Test
+    public void testWithTitles_ReplacesTitlesOfChangedArticlesAndKeepsOriginal() {
+        TitleDictionary original = TitleDictionary.of(List.of(new ArticleTitle("1", "Urlaub"), new ArticleTitle("2", "Reisekosten")));
+
+        TitleDictionary updated = original.withTitles(List.of(new ArticleTitle("1", "Ferien"), new ArticleTitle("3", "Urlaubsantrag")));
+
+        assertThat(updated.entries()).containsExactly(
+                new ArticleTitle("1", "Ferien"),
+                new ArticleTitle("2", "Reisekosten"),
+                new ArticleTitle("3", "Urlaubsantrag"));
+        assertThat(original.suggest("urlaub", 10)).containsExactly(new ArticleTitle("1", "Urlaub"));
+    }
+
+    @Test
+    public void testFrontCoding_IsSmallerThanPlainTitles() {
+        List<ArticleTitle> titles = IntStream.range(0, 1000)
+                .mapToObj(i -> new ArticleTitle(String.valueOf(i), "Richtlinie zur Arbeitssicherheit Teil " + i))
+                .toList();
+        long plainBytes = titles.stream().mapToLong(title -> title.title().length() + title.publicId().length()).sum();
+
+        TitleDictionary dictionary = TitleDictionary.of(titles);
+
+        assertThat(dictionary.sizeInBytes()).isLessThan(plainBytes / 2);
+        assertThat(dictionary.entries()).containsExactlyInAnyOrderElementsOf(titles);
+    }
+
+    @Test
+    public void testEmptyDictionary() {
+        assertThat(TitleDictionary.EMPTY.suggest("a", 10)).isEmpty();
+        assertThat(TitleDictionary.EMPTY.entries()).isEmpty();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.unternehmenshandbuch.support;
+
+import com.example.unternehmenshandbuch.model.Article;
+import com.example.unternehmenshandbuch.service.ArticleService;
+import com.example.unternehmenshandbuch.service.dto.ArticleRequestDto;
+
+public class ArticleFixtures {
+
+    public static ArticleRequestDto submit(ArticleService articleService, String title) {
+        return submit(articleService, title, "Submitted for review", title + " content");
+    }
+
+    public static ArticleRequestDto submit(ArticleService articleService, String title, String description, String content) {
+        Article created = articleService.createArticle(ArticleRequestDto.builder()
+                .title(title)
+                .description(description)
+                .content(content)
+                .editedBy("editor")
+                .build());
+        ArticleRequestDto submitted = ArticleRequestDto.builder()
+                .publicId(created.getPublicId())
+                .title(title)
+                .description(description)
+                .content(content)
+                .editedBy("editor")
+                .version(created.getVersion())
+                .status(Article.ArticleStatus.SUBMITTED)
+                .isEditable(false)
+                .build();
+        articleService.setSubmitStatus(submitted);
+        return submitted;
+    }
+}